@@ -0,0 +1,93 @@
+package com.getirCase.customer_management_service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.getirCase.customer_management_service.model.event.CustomerChangedEvent;
+import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process cache of {@link CustomerResponse} keyed by customer ID. Size bound, TTL and statistics
+ * come from {@code spring.cache.caffeine.spec}; Caffeine evicts with W-TinyLFU. Setting {@code
+ * spring.cache.type=none} turns the cache off without code changes.
+ *
+ * <p>Besides the entries, the cache remembers the highest row version it has been told about for
+ * each customer. Invalidations carrying an older version are ignored and loads that read an older
+ * version are not cached, so reordered invalidation messages cannot bring stale data back.
+ */
+@Component
+public class CustomerCache {
+
+  public static final String CACHE_NAME = "customers";
+
+  private final Cache cache;
+  private final ConcurrentMap<Long, Long> knownVersions;
+
+  public CustomerCache(
+      CacheManager cacheManager,
+      @Value("${customer.cache.version-tracking.maximum-size:100000}") long versionTrackingSize,
+      @Value("${customer.cache.version-tracking.ttl:PT10M}") Duration versionTrackingTtl) {
+    this.cache =
+        Objects.requireNonNull(
+            cacheManager.getCache(CACHE_NAME), "Cache '" + CACHE_NAME + "' is not configured");
+    this.knownVersions =
+        Caffeine.newBuilder()
+            .maximumSize(versionTrackingSize)
+            .expireAfterWrite(versionTrackingTtl)
+            .<Long, Long>build()
+            .asMap();
+  }
+
+  public Optional<CustomerResponse> get(Long customerId) {
+    return Optional.ofNullable(cache.get(customerId, CustomerResponse.class));
+  }
+
+  /**
+   * Caches a freshly loaded customer unless a newer version has already been invalidated. The check
+   * and the put run atomically with respect to {@link #invalidate(Long, long)} for the same ID.
+   */
+  public void put(Long customerId, CustomerResponse response, long version) {
+    knownVersions.compute(
+        customerId,
+        (id, knownVersion) -> {
+          if (knownVersion == null || version >= knownVersion) {
+            cache.put(id, response);
+          }
+          return knownVersion;
+        });
+  }
+
+  public void evict(Long customerId) {
+    cache.evict(customerId);
+  }
+
+  /**
+   * Evicts the entry if {@code version} is newer than anything seen so far for this customer.
+   *
+   * @return {@code true} if the entry was evicted, {@code false} if the invalidation was stale
+   */
+  public boolean invalidate(Long customerId, long version) {
+    long latestVersion = knownVersions.merge(customerId, version, Math::max);
+    if (latestVersion > version) {
+      return false;
+    }
+    evict(customerId);
+    return true;
+  }
+
+  /**
+   * Evicts the entry once the modifying transaction has committed, so a concurrent read cannot
+   * re-populate the cache with the pre-commit state after the eviction.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCustomerChanged(CustomerChangedEvent event) {
+    invalidate(event.getCustomerId(), event.getVersion());
+  }
+}
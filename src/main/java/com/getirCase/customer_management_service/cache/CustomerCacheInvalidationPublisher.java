@@ -0,0 +1,74 @@
+package com.getirCase.customer_management_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.event.CustomerCacheInvalidationEvent;
+import com.getirCase.customer_management_service.model.event.CustomerChangedEvent;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts {@code {customerId, version}} on {@code customer.events} after every committed
+ * customer change so that other replicas can drop their cached copy. Publishing is best effort: a
+ * lost message only leaves the other nodes stale until the cache TTL expires.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = "customer.cache.invalidation.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class CustomerCacheInvalidationPublisher {
+
+  private static final String EVENT_TYPE = KafkaEventType.CUSTOMER_CACHE_INVALIDATED_EVENT.name();
+
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final ObjectMapper objectMapper;
+
+  public CustomerCacheInvalidationPublisher(
+      KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.objectMapper = objectMapper.copy(); // Defensive copy
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCustomerChanged(CustomerChangedEvent event) {
+    String payload;
+    try {
+      payload =
+          objectMapper.writeValueAsString(
+              new CustomerCacheInvalidationEvent(
+                  EVENT_TYPE, event.getCustomerId(), event.getVersion()));
+    } catch (JsonProcessingException e) {
+      log.error("Could not serialize cache invalidation for customer {}", event.getCustomerId(), e);
+      return;
+    }
+
+    ProducerRecord<String, String> record =
+        new ProducerRecord<>(
+            KafkaTopics.CUSTOMER_EVENTS.getTopicName(),
+            String.valueOf(event.getCustomerId()),
+            payload);
+    record.headers().add(EventHeaders.EVENT_TYPE, EVENT_TYPE.getBytes(StandardCharsets.UTF_8));
+
+    kafkaTemplate
+        .send(record)
+        .whenComplete(
+            (result, ex) -> {
+              if (ex != null) {
+                log.warn(
+                    "Failed to publish cache invalidation for customer {}: {}",
+                    event.getCustomerId(),
+                    ex.getMessage());
+              }
+            });
+  }
+}
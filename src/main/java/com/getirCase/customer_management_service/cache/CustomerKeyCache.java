@@ -0,0 +1,70 @@
+package com.getirCase.customer_management_service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.getirCase.customer_management_service.model.event.CustomerKeysChangedEvent;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process secondary-key cache from email and from phone number to customer ID, placed in front
+ * of the {@link CustomerCache}. Only found customers are cached.
+ *
+ * <p>Entries may go stale: the key can move to another customer, and another instance's change is
+ * not seen here. Callers must therefore check that the customer they resolve still has the key and
+ * evict the entry otherwise. Local email and phone changes evict the old keys after commit, so in
+ * the common case the check passes on the first try.
+ */
+@Component
+public class CustomerKeyCache {
+
+  private final ConcurrentMap<String, Long> idsByEmail;
+  private final ConcurrentMap<String, Long> idsByPhoneNumber;
+
+  public CustomerKeyCache(
+      @Value("${customer.cache.keys.maximum-size:100000}") long maximumSize,
+      @Value("${customer.cache.keys.ttl:PT30M}") Duration ttl) {
+    this.idsByEmail = newMap(maximumSize, ttl);
+    this.idsByPhoneNumber = newMap(maximumSize, ttl);
+  }
+
+  private static ConcurrentMap<String, Long> newMap(long maximumSize, Duration ttl) {
+    return Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .<String, Long>build()
+        .asMap();
+  }
+
+  public Optional<Long> getIdByEmail(String email) {
+    return Optional.ofNullable(idsByEmail.get(email));
+  }
+
+  public Optional<Long> getIdByPhoneNumber(String phoneNumber) {
+    return Optional.ofNullable(idsByPhoneNumber.get(phoneNumber));
+  }
+
+  public void put(Long customerId, String email, String phoneNumber) {
+    idsByEmail.put(email, customerId);
+    idsByPhoneNumber.put(phoneNumber, customerId);
+  }
+
+  /** Evicts the email entry if it still points at {@code customerId}. */
+  public void evictEmail(String email, Long customerId) {
+    idsByEmail.remove(email, customerId);
+  }
+
+  /** Evicts the phone number entry if it still points at {@code customerId}. */
+  public void evictPhoneNumber(String phoneNumber, Long customerId) {
+    idsByPhoneNumber.remove(phoneNumber, customerId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCustomerKeysChanged(CustomerKeysChangedEvent event) {
+    evictEmail(event.getPreviousEmail(), event.getCustomerId());
+    evictPhoneNumber(event.getPreviousPhoneNumber(), event.getCustomerId());
+  }
+}
@@ -0,0 +1,98 @@
+package com.getirCase.customer_management_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds the application's {@link DataSource}: a pool on the primary from {@code
+ * spring.datasource}, one pool per entry of {@code customer.datasource.replicas}, and a {@link
+ * ReadReplicaRoutingDataSource} choosing between them. Without replicas every transaction runs on
+ * the primary. All pools take their settings from {@code spring.datasource.hikari} and are named
+ * after their route, so {@code hikaricp.connections.*} is reported per route under the {@code
+ * pool} tag.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class DataSourceConfig implements DisposableBean {
+
+  private final ReadReplicaRoutingDataSource routingDataSource;
+
+  public DataSourceConfig(
+      DataSourceProperties dataSourceProperties,
+      ReadReplicaProperties replicaProperties,
+      Environment environment,
+      MeterRegistry meterRegistry) {
+    Binder binder = Binder.get(environment);
+    String driverClassName = dataSourceProperties.determineDriverClassName();
+    String username = dataSourceProperties.determineUsername();
+    String password = dataSourceProperties.determinePassword();
+
+    HikariDataSource primary =
+        pool(ReadReplicaRoutingDataSource.PRIMARY, driverClassName, binder, meterRegistry);
+    primary.setJdbcUrl(dataSourceProperties.determineUrl());
+    primary.setUsername(username);
+    primary.setPassword(password);
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<ReadReplicaProperties.Replica> configured = replicaProperties.getReplicas();
+    for (int i = 0; i < configured.size(); i++) {
+      ReadReplicaProperties.Replica replica = configured.get(i);
+      String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + i;
+      HikariDataSource pool = pool(name, driverClassName, binder, meterRegistry);
+      pool.setJdbcUrl(replica.getUrl());
+      pool.setUsername(replica.getUsername() != null ? replica.getUsername() : username);
+      pool.setPassword(replica.getPassword() != null ? replica.getPassword() : password);
+      pool.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+      replicas.put(name, pool);
+    }
+
+    this.routingDataSource =
+        new ReadReplicaRoutingDataSource(
+            primary,
+            replicas,
+            replicaProperties.getMaxLag(),
+            replicaProperties.getLagQuery(),
+            meterRegistry);
+  }
+
+  @Bean
+  public DataSource dataSource() {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Scheduled(fixedDelayString = "${customer.datasource.check-interval:5000}")
+  public void checkReplicas() {
+    routingDataSource.checkReplicas();
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    routingDataSource.close();
+  }
+
+  private static HikariDataSource pool(
+      String name, String driverClassName, Binder binder, MeterRegistry meterRegistry) {
+    HikariDataSource pool = new HikariDataSource();
+    binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName(name);
+    pool.setDriverClassName(driverClassName);
+    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return pool;
+  }
+}
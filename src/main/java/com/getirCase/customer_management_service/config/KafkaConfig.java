@@ -1,46 +1,427 @@
 package com.getirCase.customer_management_service.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.consumer.CustomerEventWriteBehind;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.exception.CustomerNotFoundException;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.serialization.CustomerEventDeserializer;
+import com.getirCase.customer_management_service.serialization.CustomerEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 public class KafkaConfig {
 
+  private static final byte[] CACHE_INVALIDATION_EVENT_TYPE =
+      KafkaEventType.CUSTOMER_CACHE_INVALIDATED_EVENT.name().getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Failures that no retry can fix: undecodable records, unknown event types and events for
+   * customers that do not exist. Their records go straight to the dead-letter topic; everything
+   * else, e.g. lock timeouts or a database that is down, goes through the retry tiers.
+   */
+  private static final List<Class<? extends Throwable>> NON_RETRYABLE_EXCEPTIONS =
+      List.of(
+          DeserializationException.class,
+          MessageConversionException.class,
+          ConversionException.class,
+          IllegalArgumentException.class,
+          CustomerNotFoundException.class);
+
   @Value("${spring.kafka.bootstrap-servers}")
   private String bootstrapServers;
 
   @Value("${spring.kafka.consumer.group-id}")
   private String kafkaGroupId;
 
+  @Value("${spring.kafka.consumer.enable-auto-commit:false}")
+  private boolean enableAutoCommit;
+
+  @Value("${spring.kafka.consumer.max-poll-records:500}")
+  private int maxPollRecords;
+
+  @Value("${customer.events.listener.type:single}")
+  private String listenerType;
+
+  @Value("${spring.kafka.listener.ack-mode:batch}")
+  private String ackMode;
+
+  @Value("${spring.kafka.listener.poll-timeout:3000}")
+  private long pollTimeout;
+
+  @Value("${spring.kafka.listener.auto-startup:true}")
+  private boolean autoStartup;
+
+  @Value("${spring.kafka.listener.concurrency:1}")
+  private int listenerConcurrency;
+
+  @Value("${customer.events.retry.attempts:4}")
+  private int retryAttempts;
+
+  @Value("${customer.events.retry.initial-interval:1000}")
+  private long retryInitialInterval;
+
+  @Value("${customer.events.retry.multiplier:4.0}")
+  private double retryMultiplier;
+
+  @Value("${customer.events.retry.max-interval:60000}")
+  private long retryMaxInterval;
+
+  @Value("${customer.events.replay.batch-size:100}")
+  private int replayBatchSize;
+
+  @Value("${spring.kafka.producer.retries:3}")
+  private int producerRetries;
+
+  @Value("${spring.kafka.producer.batch-size:16384}")
+  private int producerBatchSize;
+
+  @Value("${spring.kafka.producer.buffer-memory:33554432}")
+  private long producerBufferMemory;
+
+  @Value("${spring.kafka.producer.max-block-ms:5000}")
+  private long producerMaxBlockMs;
+
+  @Value("${spring.kafka.producer.linger-ms:0}")
+  private int producerLingerMs;
+
+  @Value("${spring.kafka.producer.compression-type:none}")
+  private String producerCompressionType;
+
+  @Value("${spring.kafka.producer.acks:all}")
+  private String producerAcks;
+
+  private final Environment environment;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  public KafkaConfig(
+      Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.environment = environment;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Record values are decoded straight from bytes, as JSON or binary depending on the {@code
+   * contentType} header. A value that cannot be decoded reaches the error handler instead of
+   * stopping the container.
+   */
   @Bean
-  public ConsumerFactory<String, String> consumerFactory() {
+  public ConsumerFactory<String, CustomerEvent> consumerFactory() {
     Map<String, Object> configProps = new HashMap<>();
     configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     configProps.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaGroupId);
-    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-    return new DefaultKafkaConsumerFactory<>(configProps);
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, enableAutoCommit);
+    configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+    return withMetrics(
+        new DefaultKafkaConsumerFactory<>(
+            configProps,
+            new StringDeserializer(),
+            new ErrorHandlingDeserializer<>(new CustomerEventDeserializer(objectMapper))));
   }
 
+  /**
+   * In batch mode the listener receives a whole poll at once. With auto commit disabled the
+   * container commits the offsets only after the listener returns, i.e. after the batch has been
+   * persisted. In lanes and write-behind mode records are acknowledged from other threads, by the
+   * lanes or after a flush; the container holds back the commit of an offset until all lower
+   * offsets are acknowledged. In write-behind mode the buffer is also the container's rebalance
+   * listener, so it is flushed before the offsets of revoked partitions are committed.
+   *
+   * <p>Cache invalidations share the topic. They are decoded like every other record and then
+   * discarded by their {@code eventType} header, without reaching the listener.
+   *
+   * <p>Failed records are not retried in place, which would hold up the partition: the error
+   * handler hands them to {@link #customerEventDeadLetterRecoverer()} right away. The batch, lane
+   * and write-behind listeners forward failed records themselves, and the batch listener reports a
+   * record it could not forward with {@code BatchListenerFailedException}, so that only that record
+   * is recovered here.
+   */
   @Bean
-  public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-    ConcurrentKafkaListenerContainerFactory<String, String> factory =
+  public ConcurrentKafkaListenerContainerFactory<String, CustomerEvent>
+      kafkaListenerContainerFactory(ObjectProvider<CustomerEventWriteBehind> writeBehind) {
+    ConcurrentKafkaListenerContainerFactory<String, CustomerEvent> factory =
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(consumerFactory());
+    factory.setBatchListener(isBatchListener());
+    if (isLaneListener() || isWriteBehindListener()) {
+      factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+      factory.getContainerProperties().setAsyncAcks(true);
+      writeBehind.ifAvailable(factory.getContainerProperties()::setConsumerRebalanceListener);
+    } else {
+      factory
+          .getContainerProperties()
+          .setAckMode(ContainerProperties.AckMode.valueOf(ackMode.toUpperCase(Locale.ROOT)));
+    }
+    factory.getContainerProperties().setPollTimeout(pollTimeout);
+    factory.setConcurrency(listenerConcurrency);
+    factory.setAutoStartup(autoStartup);
+    useVirtualThreadsIfEnabled(factory);
+    factory.setRecordFilterStrategy(KafkaConfig::isCacheInvalidation);
+    factory.setAckDiscarded(true);
+    factory.setCommonErrorHandler(
+        new DefaultErrorHandler(customerEventDeadLetterRecoverer(), new FixedBackOff(0L, 0L)));
     return factory;
   }
 
+  /**
+   * Container factory for the retry tiers. The first attempt on {@code customer.events.retry} runs
+   * as soon as the record arrives; each further attempt is forwarded to the next {@code -backoff-N}
+   * topic, whose consumer pauses the partition until the record's backoff has elapsed.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, CustomerEvent>
+      retryListenerContainerFactory() {
+    ConcurrentKafkaListenerContainerFactory<String, CustomerEvent> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(consumerFactory());
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+    factory.getContainerProperties().setPollTimeout(pollTimeout);
+    factory.setAutoStartup(autoStartup);
+    useVirtualThreadsIfEnabled(factory);
+    return factory;
+  }
+
+  /**
+   * Retry tiers with exponential backoff for {@code customer.events.retry}, ending in {@code
+   * customer.events.retry-dlt}. Non-retryable failures skip the remaining tiers.
+   */
+  @Bean
+  public RetryTopicConfiguration customerEventRetryTopicConfiguration() {
+    return RetryTopicConfigurationBuilder.newInstance()
+        .includeTopic(KafkaTopics.CUSTOMER_EVENTS_RETRY.getTopicName())
+        .maxAttempts(retryAttempts)
+        .exponentialBackoff(retryInitialInterval, retryMultiplier, retryMaxInterval)
+        .notRetryOn(NON_RETRYABLE_EXCEPTIONS)
+        .traversingCauses()
+        .retryTopicSuffix("-backoff")
+        .suffixTopicsWithIndexValues()
+        .listenerFactory(retryListenerContainerFactory())
+        .create(customerEventKafkaTemplate());
+  }
+
+  /**
+   * Forwards a record that failed on {@code customer.events} to the retry tiers, or straight to the
+   * dead-letter topic when the failure is not retryable. Undecodable records are forwarded with
+   * their original bytes.
+   */
+  @Bean
+  public DeadLetterPublishingRecoverer customerEventDeadLetterRecoverer() {
+    return new DeadLetterPublishingRecoverer(
+        customerEventKafkaTemplate(),
+        (record, exception) ->
+            new TopicPartition(
+                isRetryable(exception)
+                    ? KafkaTopics.CUSTOMER_EVENTS_RETRY.getTopicName()
+                    : KafkaTopics.CUSTOMER_EVENTS_DLT.getTopicName(),
+                -1));
+  }
+
+  /**
+   * Container factory for the per-node cache invalidation listener. Values are read as plain
+   * strings, and every record that is not a cache invalidation is discarded by its {@code
+   * eventType} header before it is parsed.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, String>
+      cacheInvalidationListenerContainerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    ConcurrentKafkaListenerContainerFactory<String, String> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(withMetrics(new DefaultKafkaConsumerFactory<>(configProps)));
+    factory.setRecordFilterStrategy(record -> !isCacheInvalidation(record));
+    factory.setAckDiscarded(true);
+    factory.setAutoStartup(autoStartup);
+    useVirtualThreadsIfEnabled(factory);
+    return factory;
+  }
+
+  /**
+   * Consumer for replaying {@code customer.events.retry-dlt}, in its own consumer group. Values are
+   * read as raw bytes so that records are replayed exactly as they were dead-lettered.
+   */
+  @Bean
+  public ConsumerFactory<String, byte[]> deadLetterConsumerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ConsumerConfig.GROUP_ID_CONFIG, kafkaGroupId + "-dlt-replay");
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, replayBatchSize);
+    return withMetrics(
+        new DefaultKafkaConsumerFactory<>(
+            configProps, new StringDeserializer(), new ByteArrayDeserializer()));
+  }
+
+  @Bean
+  public ProducerFactory<String, String> producerFactory() {
+    Map<String, Object> configProps = producerConfigs();
+    configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    return withMetrics(new DefaultKafkaProducerFactory<>(configProps));
+  }
+
+  @Bean
+  public KafkaTemplate<String, String> kafkaTemplate() {
+    return new KafkaTemplate<>(producerFactory());
+  }
+
+  /**
+   * Producer for the retry and dead-letter topics. Decoded events are written in the binary format;
+   * raw values, i.e. records that could not be decoded or are replayed, are written unchanged.
+   */
+  @Bean
+  public ProducerFactory<String, Object> customerEventProducerFactory() {
+    Map<Class<?>, Serializer<?>> valueSerializers =
+        Map.of(
+            CustomerEvent.class,
+            new CustomerEventSerializer(objectMapper),
+            byte[].class,
+            new ByteArraySerializer());
+    return withMetrics(
+        new DefaultKafkaProducerFactory<>(
+            producerConfigs(),
+            new StringSerializer(),
+            new DelegatingByTypeSerializer(valueSerializers)));
+  }
+
+  @Bean
+  public KafkaTemplate<String, Object> customerEventKafkaTemplate() {
+    return new KafkaTemplate<>(customerEventProducerFactory());
+  }
+
   @Bean
   public String getKafkaGroupId() {
     return kafkaGroupId;
   }
+
+  /**
+   * Runs the consumer threads of the factory's containers on virtual threads when {@code
+   * spring.threads.virtual.enabled} is set on Java 21+. Boot only does this for its own container
+   * factory, not for the ones declared here.
+   */
+  private void useVirtualThreadsIfEnabled(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+      executor.setVirtualThreads(true);
+      factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+  }
+
+  /**
+   * Publishes the client's own metrics as {@code kafka.consumer.*}, among them {@code
+   * kafka.consumer.fetch.manager.records.lag.max}, the consumer lag of each partition.
+   */
+  private <K, V> DefaultKafkaConsumerFactory<K, V> withMetrics(
+      DefaultKafkaConsumerFactory<K, V> factory) {
+    factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+    return factory;
+  }
+
+  /** Publishes the client's own metrics as {@code kafka.producer.*}. */
+  private <K, V> DefaultKafkaProducerFactory<K, V> withMetrics(
+      DefaultKafkaProducerFactory<K, V> factory) {
+    factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+    return factory;
+  }
+
+  /** Returns {@code false} if the exception or one of its causes is a non-retryable failure. */
+  static boolean isRetryable(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      for (Class<? extends Throwable> type : NON_RETRYABLE_EXCEPTIONS) {
+        if (type.isInstance(cause)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Shared producer settings. The producer is idempotent, so retried sends cannot be duplicated or
+   * reordered within a partition; together with the customer ID as record key this keeps the events
+   * of a customer in order.
+   */
+  private Map<String, Object> producerConfigs() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ProducerConfig.RETRIES_CONFIG, producerRetries);
+    configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producerBatchSize);
+    configProps.put(ProducerConfig.LINGER_MS_CONFIG, producerLingerMs);
+    configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerCompressionType);
+    configProps.put(ProducerConfig.ACKS_CONFIG, producerAcks);
+    configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, producerBufferMemory);
+    configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producerMaxBlockMs);
+    return configProps;
+  }
+
+  private boolean isBatchListener() {
+    return "batch".equalsIgnoreCase(listenerType);
+  }
+
+  private boolean isLaneListener() {
+    return "lanes".equalsIgnoreCase(listenerType);
+  }
+
+  private boolean isWriteBehindListener() {
+    return "write-behind".equalsIgnoreCase(listenerType);
+  }
+
+  private static boolean isCacheInvalidation(ConsumerRecord<String, ?> record) {
+    Header eventType = record.headers().lastHeader(EventHeaders.EVENT_TYPE);
+    return eventType != null && Arrays.equals(eventType.value(), CACHE_INVALIDATION_EVENT_TYPE);
+  }
 }
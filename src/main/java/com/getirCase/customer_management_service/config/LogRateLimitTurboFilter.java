@@ -0,0 +1,85 @@
+package com.getirCase.customer_management_service.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.slf4j.Marker;
+
+/**
+ * Lets each INFO or DEBUG message through at most {@code maxPerSecond} times per second and drops
+ * the rest before the event is built, so a message logged per request or per event costs no
+ * formatting or I/O once it is over its limit. Messages are told apart by their format string,
+ * i.e. by call site, so a rare message is never crowded out by a frequent one. WARN and ERROR are
+ * never limited. A limit of 0 turns the filter off. Format strings built per message, e.g. by
+ * concatenation, would each get a window of their own, so only the {@value #MAX_MESSAGES} most
+ * recently used are kept.
+ *
+ * <p>Configured in {@code logback-spring.xml}; the limit is {@code customer.logging.rate-limit}.
+ */
+public class LogRateLimitTurboFilter extends TurboFilter {
+
+  static final int MAX_MESSAGES = 10_000;
+
+  private final Cache<String, Window> windows;
+  private final LongSupplier clock;
+  private int maxPerSecond;
+
+  public LogRateLimitTurboFilter() {
+    this(System::currentTimeMillis, MAX_MESSAGES);
+  }
+
+  /** @param clock current time in milliseconds */
+  LogRateLimitTurboFilter(LongSupplier clock, int maxMessages) {
+    this.clock = clock;
+    // Evicts on the logging thread; the default executor would hand every eviction to a pool.
+    this.windows = Caffeine.newBuilder().maximumSize(maxMessages).executor(Runnable::run).build();
+  }
+
+  public void setMaxPerSecond(int maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // Level checks without a message (isInfoEnabled) and disabled levels must not use up the limit.
+    if (maxPerSecond <= 0
+        || format == null
+        || level.toInt() > Level.INFO_INT
+        || level.toInt() < logger.getEffectiveLevel().toInt()) {
+      return FilterReply.NEUTRAL;
+    }
+    Window window = windows.get(format, key -> new Window());
+    return window.tryAcquire(clock.getAsLong() / 1000, maxPerSecond)
+        ? FilterReply.NEUTRAL
+        : FilterReply.DENY;
+  }
+
+  long messageCount() {
+    windows.cleanUp();
+    return windows.estimatedSize();
+  }
+
+  /**
+   * Messages logged in the current second. A reset racing with an increment may let one message
+   * more through, which is not worth a lock.
+   */
+  private static final class Window {
+
+    private volatile long second;
+    private final AtomicInteger count = new AtomicInteger();
+
+    private boolean tryAcquire(long now, int limit) {
+      if (second != now) {
+        second = now;
+        count.set(0);
+      }
+      return count.incrementAndGet() <= limit;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.getirCase.customer_management_service.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas behind the {@link ReadReplicaRoutingDataSource}, bound from {@code
+ * customer.datasource}.
+ */
+@Data
+@ConfigurationProperties("customer.datasource")
+public class ReadReplicaProperties {
+
+  /**
+   * Replication lag of the PostgreSQL server, in seconds; 0 on a primary or a replica that has
+   * replayed everything it received.
+   */
+  public static final String POSTGRES_LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery()"
+          + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+  private List<Replica> replicas = new ArrayList<>();
+
+  /** A replica further behind than this serves no reads until it has caught up. */
+  private Duration maxLag = Duration.ofSeconds(1);
+
+  /** How long a read waits for a replica connection before falling back to the primary. */
+  private Duration connectionTimeout = Duration.ofSeconds(1);
+
+  /** Returns the replica's lag in seconds; override for databases other than PostgreSQL. */
+  private String lagQuery = POSTGRES_LAG_QUERY;
+
+  @Data
+  public static class Replica {
+
+    /** Route and pool name; defaults to {@code replica-<index>}. */
+    private String name;
+
+    private String url;
+
+    /** Defaults to the primary's username. */
+    private String username;
+
+    /** Defaults to the primary's password. */
+    private String password;
+  }
+}
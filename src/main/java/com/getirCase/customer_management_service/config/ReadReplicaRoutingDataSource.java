@@ -0,0 +1,201 @@
+package com.getirCase.customer_management_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to a read replica and all others to the primary.
+ * Replicas are taken in turn. One whose replication lag exceeds {@code maxLag}, or could not be
+ * measured, is skipped until {@link #checkReplicas()} finds it caught up again; a replica that
+ * refuses a connection is skipped until the next check. Reads fall back to the primary when no
+ * replica is usable, so a replica outage costs load on the primary but no failed requests.
+ *
+ * <p>The route is chosen when a connection is requested, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which only fetches
+ * the connection once the transaction has been marked read-only.
+ *
+ * <p>Publishes {@code customer.datasource.connections} (connections handed out, tagged with the
+ * route), {@code customer.datasource.replica.lag} (last measured lag in seconds, NaN when
+ * unknown) and {@code customer.datasource.replica.available} (1 when the replica serves reads).
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource
+    implements AutoCloseable {
+
+  static final String PRIMARY = "primary";
+
+  private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+  private final DataSource primary;
+  private final Counter primaryConnections;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final double maxLagSeconds;
+  private final String lagQuery;
+
+  /**
+   * @param replicas replicas by route name, in the order they are taken
+   * @param lagQuery query returning a replica's replication lag in seconds
+   */
+  public ReadReplicaRoutingDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxLag,
+      String lagQuery,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.primaryConnections = connectionCounter(PRIMARY, meterRegistry);
+    this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    this.lagQuery = lagQuery;
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    replicas.forEach(
+        (name, dataSource) -> {
+          Replica replica = new Replica(name, dataSource, connectionCounter(name, meterRegistry));
+          this.replicas.add(replica);
+          targets.put(name, dataSource);
+          Gauge.builder("customer.datasource.replica.lag", replica, r -> r.lagSeconds)
+              .description("Replication lag of the replica at its last check, in seconds")
+              .tag("replica", name)
+              .register(meterRegistry);
+          Gauge.builder("customer.datasource.replica.available", replica, r -> r.healthy ? 1 : 0)
+              .description("Whether the replica currently serves reads")
+              .tag("replica", name)
+              .register(meterRegistry);
+        });
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Replica replica = currentReplica();
+    if (replica != null) {
+      try {
+        Connection connection = replica.dataSource.getConnection();
+        replica.connections.increment();
+        return connection;
+      } catch (SQLException e) {
+        logger.warn(
+            "Replica {} refused a connection, reading from the primary: {}",
+            replica.name,
+            e.getMessage());
+        replica.healthy = false;
+      }
+    }
+    primaryConnections.increment();
+    return primary.getConnection();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Replica replica = currentReplica();
+    return replica != null ? replica.name : PRIMARY;
+  }
+
+  /** Measures the lag of every replica and updates which ones serve reads. */
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      double lagSeconds = measureLag(replica);
+      boolean healthy = lagSeconds <= maxLagSeconds;
+      if (healthy != replica.healthy) {
+        if (healthy) {
+          logger.info("Replica {} is {}s behind, serving reads", replica.name, lagSeconds);
+        } else {
+          logger.warn(
+              "Replica {} is {}s behind, reading from the primary", replica.name, lagSeconds);
+        }
+      }
+      replica.lagSeconds = lagSeconds;
+      replica.healthy = healthy;
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  /** The replica for a new connection, or {@code null} if it must come from the primary. */
+  private Replica currentReplica() {
+    if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return null;
+    }
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica =
+          replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+      if (replica.healthy) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private double measureLag(Replica replica) {
+    try (Connection connection = replica.dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(lagQuery)) {
+      if (resultSet.next()) {
+        double lagSeconds = resultSet.getDouble(1);
+        if (!resultSet.wasNull()) {
+          return lagSeconds;
+        }
+      }
+      logger.warn("Replica {} reported no replication lag", replica.name);
+    } catch (SQLException e) {
+      logger.warn("Could not measure the lag of replica {}: {}", replica.name, e.getMessage());
+    }
+    return Double.NaN;
+  }
+
+  private static Counter connectionCounter(String route, MeterRegistry meterRegistry) {
+    return Counter.builder("customer.datasource.connections")
+        .description("Connections handed out, by the data source they came from")
+        .tag("route", route)
+        .register(meterRegistry);
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Counter connections;
+
+    /** Unavailable until the first check has measured its lag. */
+    private volatile boolean healthy;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    private Replica(String name, DataSource dataSource, Counter connections) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.connections = connections;
+    }
+  }
+}
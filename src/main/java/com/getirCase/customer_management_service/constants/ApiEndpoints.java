@@ -7,9 +7,22 @@ public final class ApiEndpoints {
 
   public static final String CUSTOMER_BASE = "/api/customers";
   public static final String GET_CUSTOMER = "/{id}";
+  public static final String SEARCH_CUSTOMERS = "";
+  public static final String GET_CUSTOMER_BY_EMAIL = "/by-email";
+  public static final String GET_CUSTOMER_BY_PHONE = "/by-phone";
   public static final String CREATE_CUSTOMER = "";
   public static final String DELETE_CUSTOMER = "/{id}";
   public static final String UPDATE_CUSTOMER = "/{id}";
   public static final String UPDATE_TIER = "/{id}/tier";
   public static final String UPDATE_ORDER_COUNT = "/{id}/count";
+  public static final String BULK_CREATE_CUSTOMERS = "/bulk";
+  public static final String BULK_UPDATE_CUSTOMERS = "/bulk";
+  public static final String BULK_GET_CUSTOMERS = "/bulk/lookup";
+
+  public static final String CUSTOMER_EVENTS_BASE = "/api/customer-events";
+  public static final String REPLAY_DEAD_LETTERS = "/dead-letters/replay";
+
+  public static final String TIER_POLICY_BASE = "/api/tier-policy";
+  public static final String TIER_POLICY = "";
+  public static final String RETIERING = "/retiering";
 }
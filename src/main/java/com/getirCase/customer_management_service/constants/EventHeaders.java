@@ -0,0 +1,21 @@
+package com.getirCase.customer_management_service.constants;
+
+public final class EventHeaders {
+  private EventHeaders() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /** Record header carrying the {@code KafkaEventType} name, so consumers can filter cheaply. */
+  public static final String EVENT_TYPE = "eventType";
+
+  /**
+   * Record header naming the payload encoding. Records without it are JSON, so producers can move
+   * to the binary format one at a time.
+   */
+  public static final String CONTENT_TYPE = "contentType";
+
+  public static final String JSON_CONTENT_TYPE = "application/json";
+
+  /** Schema-versioned binary layout written by {@code CustomerEventBinaryCodec}. */
+  public static final String BINARY_CONTENT_TYPE = "application/x-customer-event";
+}
@@ -0,0 +1,69 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.cache.CustomerCache;
+import com.getirCase.customer_management_service.model.event.CustomerCacheInvalidationEvent;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Service;
+
+/**
+ * Receives cache invalidations from every node. Each instance joins its own consumer group, named
+ * after {@code customer.cache.invalidation.instance-id}, so the messages are broadcast instead of
+ * being load balanced across replicas. The name is stable across restarts, so restarting a node
+ * does not leave another group behind.
+ *
+ * <p>Assigned partitions are always read from the end: a node that was down has no cache to
+ * invalidate, whatever offset its group committed before.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(
+    name = "customer.cache.invalidation.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class CustomerCacheInvalidationListener implements ConsumerSeekAware {
+
+  private final ObjectMapper objectMapper;
+  private final CustomerCache customerCache;
+
+  public CustomerCacheInvalidationListener(ObjectMapper objectMapper, CustomerCache customerCache) {
+    this.objectMapper = objectMapper.copy(); // Defensive copy
+    this.customerCache = customerCache;
+  }
+
+  @KafkaListener(
+      topics = "customer.events",
+      groupId = "customer-cache-${customer.cache.invalidation.instance-id}",
+      containerFactory = "cacheInvalidationListenerContainerFactory")
+  public void consumeCacheInvalidation(String message) {
+    try {
+      CustomerCacheInvalidationEvent event =
+          objectMapper.readValue(message, CustomerCacheInvalidationEvent.class);
+      if (event.getCustomerId() == null) {
+        log.warn("Cache invalidation without customer ID: {}", message);
+        return;
+      }
+
+      boolean evicted = customerCache.invalidate(event.getCustomerId(), event.getVersion());
+      log.debug(
+          "Cache invalidation for customer {} version {} (evicted: {})",
+          event.getCustomerId(),
+          event.getVersion(),
+          evicted);
+    } catch (JsonProcessingException e) {
+      log.error("Malformed cache invalidation message: {}", message, e);
+    }
+  }
+
+  @Override
+  public void onPartitionsAssigned(
+      Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+    callback.seekToEnd(assignments.keySet());
+  }
+}
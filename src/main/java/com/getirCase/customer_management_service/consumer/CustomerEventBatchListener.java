@@ -0,0 +1,143 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Batch variant of {@link CustomerEventListener}, active when {@code customer.events.listener.type}
+ * is {@code batch}. Malformed records are left out of the batch and sent to the dead-letter topic;
+ * if persisting the batch fails, each of its records is forwarded to the retry tiers on its own.
+ * Both happen in the listener, so every record is forwarded at most once per delivery.
+ *
+ * <p>If a record cannot be forwarded, the listener throws {@link BatchListenerFailedException} for
+ * it. The error handler then commits the offsets before it, recovers that record and redelivers the
+ * ones after it.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "customer.events.listener.type", havingValue = "batch")
+public class CustomerEventBatchListener {
+
+  private static final LogAccessor LOG_ACCESSOR = new LogAccessor(CustomerEventBatchListener.class);
+
+  private final CustomerEventHandler eventHandler;
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+  private final CustomerEventMetrics metrics;
+
+  public CustomerEventBatchListener(
+      CustomerEventHandler eventHandler,
+      DeadLetterPublishingRecoverer deadLetterRecoverer,
+      CustomerEventMetrics metrics) {
+    this.eventHandler = eventHandler;
+    this.deadLetterRecoverer = deadLetterRecoverer;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Records whose value could not be deserialized arrive with a {@code null} value and are sent to
+   * the dead-letter topic, like events with a missing or unknown type.
+   */
+  @KafkaListener(topics = "customer.events", groupId = "customer-service-group")
+  public void consumeCustomerEvents(List<ConsumerRecord<String, CustomerEvent>> records) {
+    List<CustomerEvent> events = new ArrayList<>(records.size());
+    Exception[] failures = new Exception[records.size()];
+
+    for (int i = 0; i < records.size(); i++) {
+      ConsumerRecord<String, CustomerEvent> record = records.get(i);
+      CustomerEvent event = record.value();
+      if (event == null) {
+        log.error("Kafka record at offset {} could not be deserialized", record.offset());
+        failures[i] = deserializationException(record);
+        metrics.recordUndecodable();
+      } else if (event.getEventType() == null) {
+        log.error(
+            "Missing eventType in Kafka event at offset {} (event {}, customer {})",
+            record.offset(),
+            event.getEventId(),
+            event.getCustomerId());
+        failures[i] = new IllegalArgumentException("Missing eventType in Kafka event");
+        metrics.recordUnknownType();
+      } else if (!isKnownEventType(event.getEventType())) {
+        log.error(
+            "Invalid eventType in Kafka event at offset {} (event {}, customer {})",
+            record.offset(),
+            event.getEventId(),
+            event.getCustomerId());
+        failures[i] = new IllegalArgumentException("Invalid eventType: " + event.getEventType());
+        metrics.recordUnknownType();
+      } else {
+        events.add(event);
+      }
+    }
+
+    log.info("Received Kafka batch of {} events ({} valid)", records.size(), events.size());
+    long startNanos = System.nanoTime();
+    boolean success = false;
+    try {
+      eventHandler.handleCustomerEventBatch(events);
+      success = true;
+    } catch (RuntimeException e) {
+      log.error("Could not apply {} customer events, forwarding them for retry", events.size(), e);
+      for (int i = 0; i < failures.length; i++) {
+        if (failures[i] == null) {
+          failures[i] = e;
+        }
+      }
+    } finally {
+      metrics.recordBatch(events, startNanos, success);
+    }
+
+    forwardFailures(records, failures);
+  }
+
+  /**
+   * Forwards the failed records in offset order. Throws for the first record that cannot be
+   * forwarded, with its original failure, so that the error handler recovers it the same way.
+   */
+  private void forwardFailures(
+      List<ConsumerRecord<String, CustomerEvent>> records, Exception[] failures) {
+    for (int i = 0; i < records.size(); i++) {
+      if (failures[i] == null) {
+        continue;
+      }
+      try {
+        deadLetterRecoverer.accept(records.get(i), failures[i]);
+      } catch (RuntimeException e) {
+        log.error("Could not forward failed Kafka event at offset {}", records.get(i).offset(), e);
+        throw new BatchListenerFailedException(
+            "Could not forward failed Kafka event", failures[i], i);
+      }
+    }
+  }
+
+  private static Exception deserializationException(ConsumerRecord<String, CustomerEvent> record) {
+    DeserializationException exception =
+        SerializationUtils.getExceptionFromHeader(
+            record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+    return exception != null
+        ? exception
+        : new IllegalArgumentException("Kafka record has no value");
+  }
+
+  private static boolean isKnownEventType(String eventType) {
+    try {
+      KafkaEventType.valueOf(eventType);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Re-injects dead-lettered customer events into {@code customer.events.retry}, so that they go
+ * through the retry tiers again without competing with the main topic. Records are replayed in
+ * batches of {@code customer.events.replay.batch-size} with a pause between batches; the offsets
+ * of a batch are committed only after all of its records have been sent.
+ */
+@Slf4j
+@Service
+public class CustomerEventDeadLetterReplayer {
+
+  private static final String RETRY_TOPIC_HEADER_PREFIX = "retry_topic-";
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final Duration pollTimeout;
+  private final Duration pause;
+  private final ReentrantLock replayLock = new ReentrantLock();
+
+  public CustomerEventDeadLetterReplayer(
+      ConsumerFactory<String, byte[]> deadLetterConsumerFactory,
+      KafkaTemplate<String, Object> customerEventKafkaTemplate,
+      @Value("${spring.kafka.listener.poll-timeout:3000}") long pollTimeout,
+      @Value("${customer.events.replay.pause:1000}") long pause) {
+    this.consumerFactory = deadLetterConsumerFactory;
+    this.kafkaTemplate = customerEventKafkaTemplate;
+    this.pollTimeout = Duration.ofMillis(pollTimeout);
+    this.pause = Duration.ofMillis(pause);
+  }
+
+  /**
+   * Replays up to {@code limit} dead-lettered records and returns how many were replayed. Stops
+   * early when the dead-letter topic is drained or the calling thread is interrupted. Only one
+   * replay runs at a time, since concurrent replays would share the same consumer group; while one
+   * is running, further calls return an empty result right away.
+   */
+  public OptionalInt replay(int limit) {
+    if (!replayLock.tryLock()) {
+      return OptionalInt.empty();
+    }
+    try {
+      return OptionalInt.of(replayUpTo(limit));
+    } finally {
+      replayLock.unlock();
+    }
+  }
+
+  private int replayUpTo(int limit) {
+    int replayed = 0;
+
+    try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+      String topic = KafkaTopics.CUSTOMER_EVENTS_DLT.getTopicName();
+      consumer.assign(
+          consumer.partitionsFor(topic).stream()
+              .map(partition -> new TopicPartition(topic, partition.partition()))
+              .toList());
+
+      while (replayed < limit) {
+        ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+        if (records.isEmpty()) {
+          break;
+        }
+
+        int sent = replayBatch(consumer, records, limit - replayed);
+        replayed += sent;
+        log.info("Replayed {} dead-lettered customer events ({} in total)", sent, replayed);
+
+        if (replayed < limit && !pauseBetweenBatches()) {
+          break;
+        }
+      }
+    }
+
+    return replayed;
+  }
+
+  private int replayBatch(
+      Consumer<String, byte[]> consumer, ConsumerRecords<String, byte[]> records, int limit) {
+    List<CompletableFuture<?>> sends = new ArrayList<>();
+    Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+    for (ConsumerRecord<String, byte[]> record : records) {
+      if (sends.size() == limit) {
+        break;
+      }
+      sends.add(
+          kafkaTemplate.send(
+              new ProducerRecord<>(
+                  KafkaTopics.CUSTOMER_EVENTS_RETRY.getTopicName(),
+                  null,
+                  record.key(),
+                  record.value(),
+                  replayHeaders(record.headers()))));
+      offsets.put(
+          new TopicPartition(record.topic(), record.partition()),
+          new OffsetAndMetadata(record.offset() + 1));
+    }
+
+    CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+    consumer.commitSync(offsets);
+    return sends.size();
+  }
+
+  /**
+   * Keeps the record's own headers, such as {@code contentType}, and drops the ones added by the
+   * dead-letter and retry handling, so that the record starts the retry tiers from the first one.
+   */
+  private static Headers replayHeaders(Headers headers) {
+    RecordHeaders replayHeaders = new RecordHeaders();
+    for (Header header : headers) {
+      String key = header.key();
+      if (!key.startsWith(KafkaHeaders.PREFIX)
+          && !key.startsWith(RETRY_TOPIC_HEADER_PREFIX)
+          && !key.startsWith(SerializationUtils.DESERIALIZER_EXCEPTION_HEADER_PREFIX)) {
+        replayHeaders.add(header);
+      }
+    }
+    return replayHeaders;
+  }
+
+  private boolean pauseBetweenBatches() {
+    try {
+      Thread.sleep(pause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
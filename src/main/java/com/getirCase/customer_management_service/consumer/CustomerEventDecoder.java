@@ -0,0 +1,150 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.model.event.RawJson;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Decodes JSON {@code customer.events} messages into {@link CustomerEvent} in a single streaming
+ * pass, without building a {@code JsonNode} tree. Known event types are matched on the parser's
+ * character buffer and resolved to the enum constant name, so the common fields allocate nothing
+ * but the event itself. The {@code data} payload is skipped and kept as a {@link RawJson} view of
+ * the message.
+ */
+public class CustomerEventDecoder {
+
+  private static final KafkaEventType[] EVENT_TYPES = KafkaEventType.values();
+
+  private final JsonFactory jsonFactory;
+
+  public CustomerEventDecoder(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  public CustomerEvent decode(String message) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(message)) {
+      return decode(parser, message, null);
+    }
+  }
+
+  /** Decodes a UTF-8 encoded message, e.g. a Kafka record value, without converting it first. */
+  public CustomerEvent decode(byte[] message) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(message)) {
+      return decode(parser, null, message);
+    }
+  }
+
+  private static CustomerEvent decode(JsonParser parser, String text, byte[] bytes)
+      throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Customer event must be a JSON object");
+    }
+
+    CustomerEvent event = new CustomerEvent();
+    String field;
+    while ((field = parser.nextFieldName()) != null) {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+
+      switch (field) {
+        case "eventId":
+          event.setEventId(UUID.fromString(parser.getText()));
+          break;
+        case "eventType":
+          event.setEventType(eventType(parser));
+          break;
+        case "customerId":
+          event.setCustomerId(
+              token == JsonToken.VALUE_STRING
+                  ? Long.parseLong(parser.getText())
+                  : parser.getLongValue());
+          break;
+        case "orderCount":
+          event.setOrderCount(
+              token == JsonToken.VALUE_STRING
+                  ? Integer.parseInt(parser.getText())
+                  : parser.getIntValue());
+          break;
+        case "timestamp":
+          event.setTimestamp(timestamp(parser, token));
+          break;
+        case "data":
+          event.setData(raw(parser, text, bytes));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return event;
+  }
+
+  private static String eventType(JsonParser parser) throws IOException {
+    char[] text = parser.getTextCharacters();
+    int offset = parser.getTextOffset();
+    int length = parser.getTextLength();
+    for (KafkaEventType type : EVENT_TYPES) {
+      if (matches(type.name(), text, offset, length)) {
+        return type.name();
+      }
+    }
+    return parser.getText();
+  }
+
+  private static boolean matches(String name, char[] text, int offset, int length) {
+    if (name.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (name.charAt(i) != text[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static LocalDateTime timestamp(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_STRING) {
+      return LocalDateTime.parse(parser.getText());
+    }
+    if (token == JsonToken.START_ARRAY) {
+      int[] parts = new int[7];
+      int count = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (count < parts.length) {
+          parts[count] = parser.getIntValue();
+        }
+        count++;
+      }
+      return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
+    }
+    throw new JsonParseException(parser, "Unsupported timestamp format");
+  }
+
+  private static RawJson raw(JsonParser parser, String text, byte[] bytes) throws IOException {
+    int start = offset(parser.currentTokenLocation(), bytes != null);
+    int end;
+    if (parser.currentToken().isStructStart()) {
+      parser.skipChildren();
+      end = offset(parser.currentTokenLocation(), bytes != null) + 1;
+    } else {
+      parser.finishToken();
+      end = offset(parser.currentLocation(), bytes != null);
+    }
+    return bytes != null ? new RawJson(bytes, start, end) : new RawJson(text, start, end);
+  }
+
+  private static int offset(JsonLocation location, boolean bytes) {
+    return (int) (bytes ? location.getByteOffset() : location.getCharOffset());
+  }
+}
@@ -0,0 +1,117 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+/**
+ * Lane variant of {@link CustomerEventListener}, active when {@code customer.events.listener.type}
+ * is {@code lanes}. The consumer thread only hands each record to the lane of its customer; the
+ * lane acknowledges the record once it has been handled. The container runs with manual,
+ * asynchronous acks, so an offset is only committed after every lower offset of the partition has
+ * been acknowledged. Since a lane runs outside the container's error handling, it forwards failed
+ * records to the retry tiers or the dead-letter topic itself. A record that can be neither handled
+ * nor forwarded is left unacknowledged: no later offset of its partition is committed, and the
+ * record is delivered again after the next rebalance or restart.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "customer.events.listener.type", havingValue = "lanes")
+public class CustomerEventLaneListener {
+
+  private final CustomerEventHandler eventHandler;
+  private final CustomerEventLanes lanes;
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+  private final CustomerEventMetrics metrics;
+
+  public CustomerEventLaneListener(
+      CustomerEventHandler eventHandler,
+      CustomerEventLanes lanes,
+      DeadLetterPublishingRecoverer deadLetterRecoverer,
+      CustomerEventMetrics metrics) {
+    this.eventHandler = eventHandler;
+    this.lanes = lanes;
+    this.deadLetterRecoverer = deadLetterRecoverer;
+    this.metrics = metrics;
+  }
+
+  @KafkaListener(topics = "customer.events", groupId = "customer-service-group")
+  public void consumeCustomerEvent(
+      ConsumerRecord<String, CustomerEvent> record, Acknowledgment acknowledgment)
+      throws InterruptedException {
+    CustomerEvent event = record.value();
+    if (!isKnownEventType(event.getEventType())) {
+      log.error(
+          "Invalid eventType in Kafka event at offset {} (event {}, customer {})",
+          record.offset(),
+          event.getEventId(),
+          event.getCustomerId());
+      deadLetterRecoverer.accept(
+          record, new IllegalArgumentException("Invalid eventType: " + event.getEventType()));
+      metrics.recordUnknownType();
+      acknowledgment.acknowledge();
+      return;
+    }
+
+    if (event.getCustomerId() == null) {
+      log.warn("Skipping {} event without customer ID", event.getEventType());
+      acknowledgment.acknowledge();
+      return;
+    }
+
+    lanes.dispatch(
+        event.getCustomerId(),
+        () -> {
+          long startNanos = System.nanoTime();
+          try {
+            eventHandler.handleCustomerEvent(event);
+            metrics.recordEvent(event.getEventType(), startNanos, true);
+          } catch (Exception e) {
+            metrics.recordEvent(event.getEventType(), startNanos, false);
+            log.error(
+                "Error processing Kafka event at offset {} (event {}, customer {})",
+                record.offset(),
+                event.getEventId(),
+                event.getCustomerId(),
+                e);
+            if (!forward(record, e)) {
+              return;
+            }
+          }
+          acknowledgment.acknowledge();
+        });
+  }
+
+  /** Returns {@code false} if the record could not be forwarded and must not be acknowledged. */
+  private boolean forward(ConsumerRecord<String, CustomerEvent> record, Exception failure) {
+    try {
+      deadLetterRecoverer.accept(record, failure);
+      return true;
+    } catch (RuntimeException e) {
+      log.error(
+          "Could not forward failed Kafka event at offset {}, leaving it unacknowledged",
+          record.offset(),
+          e);
+      return false;
+    }
+  }
+
+  private static boolean isKnownEventType(String eventType) {
+    if (eventType == null) {
+      return false;
+    }
+    try {
+      KafkaEventType.valueOf(eventType);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.getirCase.customer_management_service.consumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed set of worker lanes, each a single thread with a bounded queue. Work for a customer always
+ * goes to the lane picked by its ID, so events of one customer run one at a time in dispatch order
+ * while different customers run in parallel. {@link #dispatch} blocks while the lane is full, which
+ * slows the consumer down instead of buffering without bound.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "customer.events.listener.type", havingValue = "lanes")
+public class CustomerEventLanes {
+
+  private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+  private final Lane[] lanes;
+
+  public CustomerEventLanes(
+      @Value("${customer.events.lanes.count:8}") int laneCount,
+      @Value("${customer.events.lanes.queue-capacity:1000}") int queueCapacity,
+      MeterRegistry meterRegistry) {
+    lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane(i, queueCapacity);
+      Gauge.builder("customer.events.lane.queue.depth", lanes[i].queue, BlockingQueue::size)
+          .description("Events waiting in the lane queue")
+          .tag("lane", String.valueOf(i))
+          .register(meterRegistry);
+      Gauge.builder("customer.events.lane.lag", lanes[i].pending, AtomicInteger::get)
+          .description("Events dispatched to the lane and not yet completed")
+          .tag("lane", String.valueOf(i))
+          .register(meterRegistry);
+      lanes[i].thread.start();
+    }
+  }
+
+  /** Queues {@code task} on the lane owning {@code customerId}, waiting while that lane is full. */
+  public void dispatch(long customerId, Runnable task) throws InterruptedException {
+    Lane lane = lanes[Math.floorMod(Long.hashCode(customerId), lanes.length)];
+    lane.pending.incrementAndGet();
+    lane.queue.put(task);
+  }
+
+  public int laneCount() {
+    return lanes.length;
+  }
+
+  /** Lets every lane finish the work already queued, then stops the lane threads. */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    for (Lane lane : lanes) {
+      lane.queue.put(Lane.STOP);
+    }
+    long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+    for (Lane lane : lanes) {
+      lane.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+      if (lane.thread.isAlive()) {
+        log.warn(
+            "Lane {} did not finish within {} ms, interrupting", lane.index, SHUTDOWN_TIMEOUT_MS);
+        lane.thread.interrupt();
+      }
+    }
+  }
+
+  private static final class Lane {
+    private static final Runnable STOP = () -> {};
+
+    private final int index;
+    private final BlockingQueue<Runnable> queue;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread thread;
+
+    Lane(int index, int queueCapacity) {
+      this.index = index;
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+      this.thread = new Thread(this::run, "customer-events-lane-" + index);
+      this.thread.setDaemon(true);
+    }
+
+    private void run() {
+      try {
+        while (true) {
+          Runnable task = queue.take();
+          if (task == STOP) {
+            return;
+          }
+          try {
+            task.run();
+          } catch (RuntimeException e) {
+            log.error("Unhandled error in customer events lane {}", index, e);
+          } finally {
+            pending.decrementAndGet();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the {@code customer.events} listeners:
+ *
+ * <ul>
+ *   <li>{@code customer.events.processing}: time to handle one event in the single and lanes
+ *       modes, tagged with the event {@code type} and the {@code outcome} ({@code success} or
+ *       {@code error});
+ *   <li>{@code customer.events.batch.processing}: time to handle one poll in batch mode, tagged
+ *       with the {@code outcome};
+ *   <li>{@code customer.events.batch.events}: events handled in batch mode, tagged with {@code
+ *       type} and {@code outcome};
+ *   <li>{@code customer.events.rejected}: records sent to the dead-letter topic before handling,
+ *       tagged with the {@code reason}.
+ * </ul>
+ *
+ * <p>Every meter is registered up front, so recording looks up no tags and allocates nothing.
+ * Percentile histograms are published only when enabled under {@code
+ * management.metrics.distribution.percentiles-histogram}.
+ */
+@Component
+public class CustomerEventMetrics {
+
+  private static final String UNKNOWN_TYPE = "UNKNOWN";
+
+  private final Map<KafkaEventType, Timer> succeeded = new EnumMap<>(KafkaEventType.class);
+  private final Map<KafkaEventType, Timer> failed = new EnumMap<>(KafkaEventType.class);
+  private final Timer unknownSucceeded;
+  private final Timer unknownFailed;
+  private final Map<KafkaEventType, Counter> batchSucceeded = new EnumMap<>(KafkaEventType.class);
+  private final Map<KafkaEventType, Counter> batchFailed = new EnumMap<>(KafkaEventType.class);
+  private final Timer batchSucceededTimer;
+  private final Timer batchFailedTimer;
+  private final Counter undecodable;
+  private final Counter unknownType;
+
+  public CustomerEventMetrics(MeterRegistry meterRegistry) {
+    for (KafkaEventType type : KafkaEventType.values()) {
+      succeeded.put(type, processingTimer(type.name(), "success", meterRegistry));
+      failed.put(type, processingTimer(type.name(), "error", meterRegistry));
+      batchSucceeded.put(type, batchCounter(type.name(), "success", meterRegistry));
+      batchFailed.put(type, batchCounter(type.name(), "error", meterRegistry));
+    }
+    this.unknownSucceeded = processingTimer(UNKNOWN_TYPE, "success", meterRegistry);
+    this.unknownFailed = processingTimer(UNKNOWN_TYPE, "error", meterRegistry);
+    this.batchSucceededTimer = batchTimer("success", meterRegistry);
+    this.batchFailedTimer = batchTimer("error", meterRegistry);
+    this.undecodable = rejectedCounter("undecodable", meterRegistry);
+    this.unknownType = rejectedCounter("unknown_type", meterRegistry);
+  }
+
+  /** Records one event handled since {@code startNanos}, a {@link System#nanoTime()} reading. */
+  public void recordEvent(String eventType, long startNanos, boolean success) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    KafkaEventType type = parse(eventType);
+    Timer timer;
+    if (type == null) {
+      timer = success ? unknownSucceeded : unknownFailed;
+    } else {
+      timer = success ? succeeded.get(type) : failed.get(type);
+    }
+    timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Records one batch of events handled since {@code startNanos}. */
+  public void recordBatch(List<CustomerEvent> events, long startNanos, boolean success) {
+    (success ? batchSucceededTimer : batchFailedTimer)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    Map<KafkaEventType, Counter> counters = success ? batchSucceeded : batchFailed;
+    for (CustomerEvent event : events) {
+      KafkaEventType type = parse(event.getEventType());
+      if (type != null) {
+        counters.get(type).increment();
+      }
+    }
+  }
+
+  public void recordUndecodable() {
+    undecodable.increment();
+  }
+
+  /** Records a record whose event type is missing or unknown. */
+  public void recordUnknownType() {
+    unknownType.increment();
+  }
+
+  private static KafkaEventType parse(String eventType) {
+    if (eventType == null) {
+      return null;
+    }
+    try {
+      return KafkaEventType.valueOf(eventType);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static Timer processingTimer(String type, String outcome, MeterRegistry meterRegistry) {
+    return Timer.builder("customer.events.processing")
+        .description("Time to handle one customer event")
+        .tag("type", type)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Timer batchTimer(String outcome, MeterRegistry meterRegistry) {
+    return Timer.builder("customer.events.batch.processing")
+        .description("Time to handle one poll of customer events")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Counter batchCounter(String type, String outcome, MeterRegistry meterRegistry) {
+    return Counter.builder("customer.events.batch.events")
+        .description("Customer events handled in batches")
+        .tag("type", type)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Counter rejectedCounter(String reason, MeterRegistry meterRegistry) {
+    return Counter.builder("customer.events.rejected")
+        .description("Customer event records dead-lettered before handling")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
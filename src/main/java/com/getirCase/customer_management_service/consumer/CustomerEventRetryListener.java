@@ -0,0 +1,36 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Retries events that failed on {@code customer.events}, whatever the listener type. The retry
+ * tiers and the dead-letter topic behind {@code customer.events.retry} are configured in {@link
+ * com.getirCase.customer_management_service.config.KafkaConfig}.
+ */
+@Slf4j
+@Service
+public class CustomerEventRetryListener {
+
+  private final CustomerEventHandler eventHandler;
+
+  public CustomerEventRetryListener(CustomerEventHandler eventHandler) {
+    this.eventHandler = eventHandler;
+  }
+
+  @KafkaListener(
+      topics = "customer.events.retry",
+      groupId = "customer-service-group",
+      containerFactory = "retryListenerContainerFactory")
+  public void retryCustomerEvent(CustomerEvent event) {
+    log.info(
+        "Retrying {} event {} for customer {}",
+        event.getEventType(),
+        event.getEventId(),
+        event.getCustomerId());
+    eventHandler.handleCustomerEvent(event);
+  }
+}
@@ -0,0 +1,301 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ConsumerPausedEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind buffer for {@code customer.events}. Records are held in memory and applied by a
+ * single flusher thread through {@link CustomerEventHandler#handleCustomerEventBatch}: all events
+ * of a customer in the flush become one order count update, and the tier is recomputed once per
+ * flush. A hot customer thus takes one row lock per flush instead of one per event.
+ *
+ * <p>With asynchronous acks the container pauses a consumer after each poll until every record of
+ * that poll has been acknowledged, so at most {@code spring.kafka.listener.concurrency} times
+ * {@code spring.kafka.consumer.max-poll-records} records are ever buffered. A flush therefore
+ * starts as soon as a consumer is paused, once its whole poll is buffered. {@code flush-size} and
+ * {@code flush-interval} only start one earlier: after that many records, or after that many ms
+ * with a poll still being buffered. A flush size above that bound never takes effect.
+ *
+ * <p>A record is acknowledged only after the flush that applied it has committed, so its offset is
+ * not committed before then and a crash redelivers every unflushed record. Event IDs keep records
+ * whose flush committed but whose offsets did not from being counted twice. If a flush fails,
+ * each of its records is forwarded to the retry tiers on its own; a record that cannot be
+ * forwarded is left unacknowledged and delivered again after the next rebalance or restart. {@link
+ * #add} blocks while a full flush is waiting.
+ *
+ * <p>As the container's rebalance listener, it flushes the buffer before revoked partitions are
+ * committed, so records applied here are not applied again by their next owner.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "customer.events.listener.type", havingValue = "write-behind")
+public class CustomerEventWriteBehind implements ConsumerAwareRebalanceListener {
+
+  private static final long FLUSH_TIMEOUT_MS = 10_000;
+
+  private final CustomerEventHandler eventHandler;
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+  private final CustomerEventMetrics metrics;
+  private final int flushSize;
+  private final long flushIntervalMs;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition flushWanted = lock.newCondition();
+  private final Condition flushDone = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Thread flusher;
+
+  private List<PendingRecord> pending = new ArrayList<>();
+  private long added;
+  private long flushed;
+  private boolean flushRequested;
+  private boolean running = true;
+
+  public CustomerEventWriteBehind(
+      CustomerEventHandler eventHandler,
+      DeadLetterPublishingRecoverer deadLetterRecoverer,
+      CustomerEventMetrics metrics,
+      MeterRegistry meterRegistry,
+      @Value("${customer.events.write-behind.flush-size:500}") int flushSize,
+      @Value("${customer.events.write-behind.flush-interval:200}") long flushIntervalMs) {
+    this.eventHandler = eventHandler;
+    this.deadLetterRecoverer = deadLetterRecoverer;
+    this.metrics = metrics;
+    this.flushSize = flushSize;
+    this.flushIntervalMs = flushIntervalMs;
+    Gauge.builder("customer.events.write-behind.pending", this, CustomerEventWriteBehind::size)
+        .description("Events buffered and not yet flushed")
+        .register(meterRegistry);
+    this.flusher = new Thread(this::run, "customer-events-write-behind");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /** Buffers a record until the next flush. Waits while {@code flush-size} records are buffered. */
+  public void add(ConsumerRecord<String, CustomerEvent> record, Acknowledgment acknowledgment)
+      throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (pending.size() >= flushSize && running) {
+        notFull.await();
+      }
+      pending.add(new PendingRecord(record, acknowledgment));
+      added++;
+      if (pending.size() >= flushSize) {
+        flushWanted.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Flushes everything buffered so far and waits until each record has been acknowledged or left
+   * unacknowledged.
+   *
+   * @return {@code false} if the flush did not finish within the timeout
+   */
+  public boolean flushAndWait(long timeoutMs) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      long target = added;
+      requestFlush();
+      long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      while (flushed < target) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = flushDone.awaitNanos(remainingNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Starts a flush without waiting for it when a consumer is paused: nothing more arrives from it
+   * until the records it has handed over are flushed and acknowledged.
+   */
+  @EventListener
+  public void onConsumerPaused(ConsumerPausedEvent event) {
+    lock.lock();
+    try {
+      requestFlush();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Runs on the consumer thread before the offsets of revoked partitions are committed. Acks given
+   * by the flush are committed right after this returns.
+   */
+  @Override
+  public void onPartitionsRevokedBeforeCommit(
+      Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    try {
+      if (!flushAndWait(FLUSH_TIMEOUT_MS)) {
+        log.warn(
+            "Write-behind flush did not finish within {} ms of revoking {}",
+            FLUSH_TIMEOUT_MS,
+            partitions);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Flushes what is buffered, then stops the flusher thread. */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    lock.lock();
+    try {
+      running = false;
+      flushWanted.signal();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    flusher.join(FLUSH_TIMEOUT_MS);
+    if (flusher.isAlive()) {
+      log.warn("Write-behind flush did not finish within {} ms, interrupting", FLUSH_TIMEOUT_MS);
+      flusher.interrupt();
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        List<PendingRecord> batch = takeBatch();
+        if (batch == null) {
+          return;
+        }
+        flush(batch);
+        markFlushed(batch.size());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Waits until {@code flush-size} records are buffered, a flush is requested or the flush interval
+   * has passed, and takes the buffered records. Returns {@code null} once stopped with nothing left
+   * to flush.
+   */
+  private List<PendingRecord> takeBatch() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      long remainingNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+      while (running && !flushRequested && pending.size() < flushSize && remainingNanos > 0) {
+        remainingNanos = flushWanted.awaitNanos(remainingNanos);
+      }
+      if (!running && pending.isEmpty()) {
+        return null;
+      }
+      flushRequested = false;
+      List<PendingRecord> batch = pending;
+      pending = new ArrayList<>();
+      notFull.signalAll();
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void requestFlush() {
+    flushRequested = true;
+    flushWanted.signal();
+  }
+
+  private void markFlushed(int count) {
+    lock.lock();
+    try {
+      flushed += count;
+      flushDone.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flush(List<PendingRecord> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<CustomerEvent> events = new ArrayList<>(batch.size());
+    for (PendingRecord pendingRecord : batch) {
+      events.add(pendingRecord.record.value());
+    }
+
+    long startNanos = System.nanoTime();
+    Exception failure = null;
+    try {
+      eventHandler.handleCustomerEventBatch(events);
+    } catch (Exception e) {
+      log.error("Could not flush {} customer events, forwarding them for retry", events.size(), e);
+      failure = e;
+    } finally {
+      metrics.recordBatch(events, startNanos, failure == null);
+    }
+
+    for (PendingRecord pendingRecord : batch) {
+      if (failure == null || forward(pendingRecord.record, failure)) {
+        pendingRecord.acknowledgment.acknowledge();
+      }
+    }
+  }
+
+  /** Returns {@code false} if the record could not be forwarded and must not be acknowledged. */
+  private boolean forward(ConsumerRecord<String, CustomerEvent> record, Exception failure) {
+    try {
+      deadLetterRecoverer.accept(record, failure);
+      return true;
+    } catch (RuntimeException e) {
+      log.error(
+          "Could not forward failed Kafka event at offset {}, leaving it unacknowledged",
+          record.offset(),
+          e);
+      return false;
+    }
+  }
+
+  private static final class PendingRecord {
+    private final ConsumerRecord<String, CustomerEvent> record;
+    private final Acknowledgment acknowledgment;
+
+    PendingRecord(ConsumerRecord<String, CustomerEvent> record, Acknowledgment acknowledgment) {
+      this.record = record;
+      this.acknowledgment = acknowledgment;
+    }
+  }
+}
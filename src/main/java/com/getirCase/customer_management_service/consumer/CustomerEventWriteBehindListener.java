@@ -0,0 +1,70 @@
+package com.getirCase.customer_management_service.consumer;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+/**
+ * Write-behind variant of {@link CustomerEventListener}, active when {@code
+ * customer.events.listener.type} is {@code write-behind}. The consumer thread only buffers each
+ * record in {@link CustomerEventWriteBehind}, which acknowledges it once the flush that applied it
+ * has committed. The container runs with manual, asynchronous acks, so an offset is only committed
+ * after every lower offset of the partition has been flushed.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "customer.events.listener.type", havingValue = "write-behind")
+public class CustomerEventWriteBehindListener {
+
+  private final CustomerEventWriteBehind writeBehind;
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+  private final CustomerEventMetrics metrics;
+
+  public CustomerEventWriteBehindListener(
+      CustomerEventWriteBehind writeBehind,
+      DeadLetterPublishingRecoverer deadLetterRecoverer,
+      CustomerEventMetrics metrics) {
+    this.writeBehind = writeBehind;
+    this.deadLetterRecoverer = deadLetterRecoverer;
+    this.metrics = metrics;
+  }
+
+  @KafkaListener(topics = "customer.events", groupId = "customer-service-group")
+  public void consumeCustomerEvent(
+      ConsumerRecord<String, CustomerEvent> record, Acknowledgment acknowledgment)
+      throws InterruptedException {
+    CustomerEvent event = record.value();
+    if (!isKnownEventType(event.getEventType())) {
+      log.error(
+          "Invalid eventType in Kafka event at offset {} (event {}, customer {})",
+          record.offset(),
+          event.getEventId(),
+          event.getCustomerId());
+      deadLetterRecoverer.accept(
+          record, new IllegalArgumentException("Invalid eventType: " + event.getEventType()));
+      metrics.recordUnknownType();
+      acknowledgment.acknowledge();
+      return;
+    }
+
+    writeBehind.add(record, acknowledgment);
+  }
+
+  private static boolean isKnownEventType(String eventType) {
+    if (eventType == null) {
+      return false;
+    }
+    try {
+      KafkaEventType.valueOf(eventType);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -3,7 +3,11 @@ package com.getirCase.customer_management_service.controller;
 import com.getirCase.customer_management_service.constants.ApiEndpoints;
 import com.getirCase.customer_management_service.exception.InvalidRequestException;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.request.CustomerSearchRequest;
+import com.getirCase.customer_management_service.model.request.CustomerUpdateRequest;
 import com.getirCase.customer_management_service.model.request.OrderCountRequest;
+import com.getirCase.customer_management_service.model.response.CustomerBulkResponse;
+import com.getirCase.customer_management_service.model.response.CustomerPageResponse;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
 import com.getirCase.customer_management_service.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,13 +15,16 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -25,6 +32,7 @@ import java.util.Objects;
 public class CustomerController {
 
   private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
+  private static final int MAX_BULK_ITEMS = 1000;
   private CustomerService customerService;
 
   public CustomerController(CustomerService customerService) {
@@ -50,6 +58,78 @@ public class CustomerController {
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping(ApiEndpoints.GET_CUSTOMER_BY_EMAIL)
+  @Operation(
+      summary = "Retrieve a customer by email",
+      description = "Fetches customer details using the exact email address.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Customer found successfully"),
+    @ApiResponse(responseCode = "400", description = "Missing email"),
+    @ApiResponse(responseCode = "404", description = "Customer not found"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerResponse> getCustomerByEmail(
+      @Parameter(description = "Email of the customer to retrieve", required = true) @RequestParam
+          String email) {
+
+    if (!StringUtils.hasText(email)) {
+      throw new InvalidRequestException("Email is required");
+    }
+
+    logger.info("Retrieving customer by email");
+    return ResponseEntity.ok(customerService.getCustomerByEmail(email));
+  }
+
+  @GetMapping(ApiEndpoints.GET_CUSTOMER_BY_PHONE)
+  @Operation(
+      summary = "Retrieve a customer by phone number",
+      description = "Fetches customer details using the exact phone number.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Customer found successfully"),
+    @ApiResponse(responseCode = "400", description = "Missing phone number"),
+    @ApiResponse(responseCode = "404", description = "Customer not found"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerResponse> getCustomerByPhoneNumber(
+      @Parameter(description = "Phone number of the customer to retrieve", required = true)
+          @RequestParam
+          String phoneNumber) {
+
+    if (!StringUtils.hasText(phoneNumber)) {
+      throw new InvalidRequestException("Phone number is required");
+    }
+
+    logger.info("Retrieving customer by phone number");
+    return ResponseEntity.ok(customerService.getCustomerByPhoneNumber(phoneNumber));
+  }
+
+  @GetMapping(ApiEndpoints.SEARCH_CUSTOMERS)
+  @Operation(
+      summary = "List and search customers",
+      description =
+          "Returns one page of the customers matching all given filters, ordered by id, createdAt"
+              + " or orderCount. Pass the returned nextCursor to fetch the following page.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "One page of matching customers"),
+    @ApiResponse(responseCode = "400", description = "Invalid filter, sort, limit or cursor"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerPageResponse> searchCustomers(
+      @ParameterObject @Valid CustomerSearchRequest request, BindingResult bindingResult) {
+
+    if (bindingResult.hasErrors()) {
+      throw new InvalidRequestException("Invalid search parameters");
+    }
+
+    logger.info(
+        "Searching customers by tier {}, sorted by {} {}, limit {}",
+        request.getTier(),
+        request.getSort(),
+        request.getDirection(),
+        request.getLimit());
+    return ResponseEntity.ok(customerService.searchCustomers(request));
+  }
+
   @PostMapping(ApiEndpoints.CREATE_CUSTOMER)
   @Operation(
       summary = "Create a new customer",
@@ -70,7 +150,7 @@ public class CustomerController {
       throw new InvalidRequestException("Invalid customer data");
     }
 
-    logger.info("Creating new customer: {}", request);
+    logger.info("Creating new customer");
     CustomerResponse response = customerService.createCustomer(request);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
@@ -152,4 +232,72 @@ public class CustomerController {
     CustomerResponse response = customerService.updateOrderCount(id, request.getNewOrderCount());
     return ResponseEntity.ok(response);
   }
+
+  @PostMapping(ApiEndpoints.BULK_GET_CUSTOMERS)
+  @Operation(
+      summary = "Retrieve customers by ID list",
+      description =
+          "Fetches up to 1000 customers in one call. Each ID gets its own result, in request"
+              + " order.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Per-item lookup results"),
+    @ApiResponse(responseCode = "400", description = "Empty or too large ID list"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerBulkResponse> getCustomers(
+      @Parameter(description = "IDs of the customers to retrieve", required = true) @RequestBody
+          List<Long> ids) {
+
+    checkBulkSize(ids);
+    logger.info("Retrieving {} customers", ids.size());
+    return ResponseEntity.ok(customerService.getCustomers(ids));
+  }
+
+  @PostMapping(ApiEndpoints.BULK_CREATE_CUSTOMERS)
+  @Operation(
+      summary = "Create customers in bulk",
+      description =
+          "Creates up to 1000 customers in one call. Invalid items and duplicate emails or phone"
+              + " numbers are reported per item and do not fail the others.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Per-item creation results"),
+    @ApiResponse(responseCode = "400", description = "Empty or too large request"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerBulkResponse> createCustomers(
+      @Parameter(description = "Customers to create", required = true) @RequestBody
+          List<CustomerRequest> requests) {
+
+    checkBulkSize(requests);
+    logger.info("Creating {} customers", requests.size());
+    return ResponseEntity.ok(customerService.createCustomers(requests));
+  }
+
+  @PutMapping(ApiEndpoints.BULK_UPDATE_CUSTOMERS)
+  @Operation(
+      summary = "Update customers in bulk",
+      description =
+          "Updates up to 1000 customers in one call. Unknown IDs, invalid items and duplicate"
+              + " emails or phone numbers are reported per item and do not fail the others.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Per-item update results"),
+    @ApiResponse(responseCode = "400", description = "Empty or too large request"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<CustomerBulkResponse> updateCustomers(
+      @Parameter(description = "Customer IDs with their updated data", required = true)
+          @RequestBody
+          List<CustomerUpdateRequest> requests) {
+
+    checkBulkSize(requests);
+    logger.info("Updating {} customers", requests.size());
+    return ResponseEntity.ok(customerService.updateCustomers(requests));
+  }
+
+  private static void checkBulkSize(List<?> items) {
+    if (items == null || items.isEmpty() || items.size() > MAX_BULK_ITEMS) {
+      throw new InvalidRequestException(
+          "Bulk requests must contain between 1 and " + MAX_BULK_ITEMS + " items");
+    }
+  }
 }
@@ -0,0 +1,65 @@
+package com.getirCase.customer_management_service.controller;
+
+import com.getirCase.customer_management_service.constants.ApiEndpoints;
+import com.getirCase.customer_management_service.consumer.CustomerEventDeadLetterReplayer;
+import com.getirCase.customer_management_service.exception.InvalidRequestException;
+import com.getirCase.customer_management_service.model.response.DeadLetterReplayResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Objects;
+import java.util.OptionalInt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(ApiEndpoints.CUSTOMER_EVENTS_BASE)
+public class CustomerEventController {
+
+  private static final Logger logger = LoggerFactory.getLogger(CustomerEventController.class);
+  private static final int MAX_REPLAY_RECORDS = 100_000;
+
+  private final CustomerEventDeadLetterReplayer deadLetterReplayer;
+
+  public CustomerEventController(CustomerEventDeadLetterReplayer deadLetterReplayer) {
+    this.deadLetterReplayer =
+        Objects.requireNonNull(deadLetterReplayer, "Dead-letter replayer cannot be null");
+  }
+
+  @PostMapping(ApiEndpoints.REPLAY_DEAD_LETTERS)
+  @Operation(
+      summary = "Replay dead-lettered customer events",
+      description =
+          "Re-injects up to the given number of dead-lettered events into the retry topic, in"
+              + " throttled batches. Returns once they have been sent.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Number of replayed events"),
+    @ApiResponse(responseCode = "400", description = "Invalid limit"),
+    @ApiResponse(responseCode = "409", description = "A replay is already in progress"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(
+      @Parameter(description = "Maximum number of events to replay")
+          @RequestParam(defaultValue = "1000")
+          int limit) {
+
+    if (limit < 1 || limit > MAX_REPLAY_RECORDS) {
+      throw new InvalidRequestException("Replay limit must be between 1 and " + MAX_REPLAY_RECORDS);
+    }
+
+    logger.info("Replaying up to {} dead-lettered customer events", limit);
+    OptionalInt replayed = deadLetterReplayer.replay(limit);
+    if (replayed.isEmpty()) {
+      logger.warn("Dead-letter replay already in progress");
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+    return ResponseEntity.ok(new DeadLetterReplayResponse(replayed.getAsInt()));
+  }
+}
@@ -0,0 +1,110 @@
+package com.getirCase.customer_management_service.controller;
+
+import com.getirCase.customer_management_service.constants.ApiEndpoints;
+import com.getirCase.customer_management_service.exception.InvalidRequestException;
+import com.getirCase.customer_management_service.model.request.TierPolicyRequest;
+import com.getirCase.customer_management_service.model.response.RetieringStatusResponse;
+import com.getirCase.customer_management_service.model.response.TierPolicyResponse;
+import com.getirCase.customer_management_service.service.tier.CustomerRetieringJob;
+import com.getirCase.customer_management_service.service.tier.TierPolicy;
+import com.getirCase.customer_management_service.service.tier.TierPolicyProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(ApiEndpoints.TIER_POLICY_BASE)
+public class TierPolicyController {
+
+  private static final Logger logger = LoggerFactory.getLogger(TierPolicyController.class);
+
+  private final TierPolicyProvider tierPolicyProvider;
+  private final CustomerRetieringJob retieringJob;
+
+  public TierPolicyController(
+      TierPolicyProvider tierPolicyProvider, CustomerRetieringJob retieringJob) {
+    this.tierPolicyProvider =
+        Objects.requireNonNull(tierPolicyProvider, "TierPolicyProvider cannot be null");
+    this.retieringJob = Objects.requireNonNull(retieringJob, "Re-tiering job cannot be null");
+  }
+
+  @GetMapping(ApiEndpoints.TIER_POLICY)
+  @Operation(
+      summary = "Retrieve the tier policy",
+      description = "Returns the minimum order count of every tier applied by this instance.")
+  public ResponseEntity<TierPolicyResponse> getTierPolicy() {
+    return ResponseEntity.ok(new TierPolicyResponse(tierPolicyProvider.current().toMap()));
+  }
+
+  @PutMapping(ApiEndpoints.TIER_POLICY)
+  @Operation(
+      summary = "Replace the tier policy",
+      description =
+          "Stores new tier thresholds. New order counts use them at once on this instance and"
+              + " within the refresh interval on the others. Existing customers keep their tier"
+              + " until a re-tiering run.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Tier policy updated"),
+    @ApiResponse(responseCode = "400", description = "Invalid thresholds"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<TierPolicyResponse> updateTierPolicy(
+      @Parameter(description = "Minimum order count of every tier", required = true)
+          @Valid
+          @RequestBody
+          TierPolicyRequest request,
+      BindingResult bindingResult) {
+
+    if (bindingResult.hasErrors()) {
+      throw new InvalidRequestException("Invalid tier policy");
+    }
+
+    TierPolicy policy;
+    try {
+      policy = TierPolicy.of(request.getMinOrders());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(e.getMessage());
+    }
+
+    logger.info("Updating tier policy to {}", policy);
+    tierPolicyProvider.update(policy);
+    return ResponseEntity.ok(new TierPolicyResponse(policy.toMap()));
+  }
+
+  @PostMapping(ApiEndpoints.RETIERING)
+  @Operation(
+      summary = "Re-tier all customers",
+      description =
+          "Starts reapplying the current tier policy to every customer in the background.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "202", description = "Re-tiering started"),
+    @ApiResponse(responseCode = "409", description = "A re-tiering run is already in progress")
+  })
+  public ResponseEntity<RetieringStatusResponse> startRetiering() {
+    boolean started = retieringJob.start();
+    return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+        .body(retieringJob.status());
+  }
+
+  @GetMapping(ApiEndpoints.RETIERING)
+  @Operation(
+      summary = "Re-tiering progress",
+      description = "Returns the progress and throughput of the last re-tiering run.")
+  public ResponseEntity<RetieringStatusResponse> getRetieringStatus() {
+    return ResponseEntity.ok(retieringJob.status());
+  }
+}
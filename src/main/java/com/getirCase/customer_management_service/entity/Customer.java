@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "customer")
 public class Customer {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+  @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "name", nullable = false, length = 100)
@@ -48,6 +49,10 @@ public class Customer {
   @Column(name = "is_active", nullable = false)
   private boolean isActive = true;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
   @PreUpdate
   public void setLastUpdate() {
     this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,34 @@
+package com.getirCase.customer_management_service.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox row for a "one more order to the next tier" notification. Written in the same transaction
+ * as the order count change and marked processed once the scheduler has sent it.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "customer_notification")
+public class CustomerNotification {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "customer_id", nullable = false)
+  private Long customerId;
+
+  @Column(name = "order_count", nullable = false)
+  private int orderCount;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  @Column(name = "processed_at")
+  private LocalDateTime processedAt;
+}
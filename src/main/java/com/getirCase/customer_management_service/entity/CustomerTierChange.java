@@ -0,0 +1,46 @@
+package com.getirCase.customer_management_service.entity;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox row for a tier change. Written in the same transaction as the change and deleted once the
+ * relay has published it to {@code customer.tier-changes}.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "customer_tier_change")
+public class CustomerTierChange {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "customer_id", nullable = false)
+  private Long customerId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "previous_tier")
+  private CustomerTier previousTier;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "tier", nullable = false)
+  private CustomerTier tier;
+
+  @Column(name = "order_count", nullable = false)
+  private int orderCount;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  public CustomerTierChange(
+      Long customerId, CustomerTier previousTier, CustomerTier tier, int orderCount) {
+    this.customerId = customerId;
+    this.previousTier = previousTier;
+    this.tier = tier;
+    this.orderCount = orderCount;
+  }
+}
@@ -0,0 +1,26 @@
+package com.getirCase.customer_management_service.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID of a customer event whose effects have been committed. Written in the same transaction as the
+ * effects and pruned once older than the dedup retention.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "processed_event")
+public class ProcessedEvent {
+  @Id
+  @Column(name = "event_id")
+  private UUID eventId;
+
+  @Column(name = "processed_at", nullable = false, updatable = false)
+  private LocalDateTime processedAt = LocalDateTime.now();
+}
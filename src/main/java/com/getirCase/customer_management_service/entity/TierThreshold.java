@@ -0,0 +1,23 @@
+package com.getirCase.customer_management_service.entity;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Minimum order count of one tier in the tier policy shared by all instances. */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tier_threshold")
+public class TierThreshold {
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "tier", length = 20)
+  private CustomerTier tier;
+
+  @Column(name = "min_orders", nullable = false)
+  private int minOrders;
+}
@@ -0,0 +1,10 @@
+package com.getirCase.customer_management_service.enums;
+
+public enum BulkItemStatus {
+  CREATED,
+  UPDATED,
+  FOUND,
+  INVALID,
+  DUPLICATE,
+  NOT_FOUND
+}
@@ -0,0 +1,28 @@
+package com.getirCase.customer_management_service.enums;
+
+import java.util.Arrays;
+
+/** Columns a customer listing can be ordered by. Ties are always broken by ID. */
+public enum CustomerSortField {
+  ID("id"),
+  CREATED_AT("createdAt"),
+  ORDER_COUNT("orderCount");
+
+  private final String property;
+
+  CustomerSortField(String property) {
+    this.property = property;
+  }
+
+  /** Name of the {@code Customer} attribute, also used as the {@code sort} request value. */
+  public String getProperty() {
+    return property;
+  }
+
+  public static CustomerSortField fromProperty(String property) {
+    return Arrays.stream(values())
+        .filter(field -> field.property.equals(property))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unsupported sort field: " + property));
+  }
+}
@@ -1,5 +1,9 @@
 package com.getirCase.customer_management_service.enums;
 
+/**
+ * Customer tiers from lowest to highest. The order counts at which they start are set by the
+ * {@link com.getirCase.customer_management_service.service.tier.TierPolicy TierPolicy}.
+ */
 public enum CustomerTier {
   REGULAR,
   GOLD,
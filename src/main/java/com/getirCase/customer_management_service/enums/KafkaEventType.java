@@ -1,6 +1,27 @@
 package com.getirCase.customer_management_service.enums;
 
 public enum KafkaEventType {
-  CUSTOMER_ORDER_CREATED_EVENT,
-  CUSTOMER_TIER_UPDATED_EVENT;
+  CUSTOMER_ORDER_CREATED_EVENT(1),
+  CUSTOMER_TIER_UPDATED_EVENT(2),
+  CUSTOMER_CACHE_INVALIDATED_EVENT(3);
+
+  private final int wireCode;
+
+  KafkaEventType(int wireCode) {
+    this.wireCode = wireCode;
+  }
+
+  /** Stable code used for this type in the binary wire format. Never reuse a code. */
+  public int getWireCode() {
+    return wireCode;
+  }
+
+  public static KafkaEventType fromWireCode(int wireCode) {
+    for (KafkaEventType type : values()) {
+      if (type.wireCode == wireCode) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown event type code: " + wireCode);
+  }
 }
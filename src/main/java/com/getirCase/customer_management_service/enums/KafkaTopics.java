@@ -1,7 +1,13 @@
 package com.getirCase.customer_management_service.enums;
 
 public enum KafkaTopics {
-  CUSTOMER_EVENTS("customer.events");
+  CUSTOMER_EVENTS("customer.events"),
+  /** Entry point of the retry tiers for events that failed on {@link #CUSTOMER_EVENTS}. */
+  CUSTOMER_EVENTS_RETRY("customer.events.retry"),
+  /** Events that failed every retry tier or can never succeed. */
+  CUSTOMER_EVENTS_DLT("customer.events.retry-dlt"),
+  /** Tier changes relayed from the {@code customer_tier_change} outbox, keyed by customer ID. */
+  CUSTOMER_TIER_CHANGES("customer.tier-changes");
 
   private final String topicName;
 
@@ -0,0 +1,8 @@
+package com.getirCase.customer_management_service.enums;
+
+public enum RetieringState {
+  IDLE,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -3,8 +3,10 @@ package com.getirCase.customer_management_service.exception;
 import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -25,6 +27,21 @@ public class GlobalExceptionHandler {
     return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+      DataIntegrityViolationException ex) {
+    logger.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+    return buildErrorResponse(
+        "Customer data conflicts with an existing customer", HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler(CannotCreateTransactionException.class)
+  public ResponseEntity<ErrorResponse> handleCannotCreateTransaction(
+      CannotCreateTransactionException ex) {
+    logger.warn("No database connection available: {}", ex.getMessage());
+    return buildErrorResponse("Service is busy, please retry", HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   @ExceptionHandler(RuntimeException.class)
   public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
     logger.error("Unexpected error: {}", ex.getMessage(), ex);
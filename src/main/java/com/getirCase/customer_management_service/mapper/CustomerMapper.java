@@ -1,8 +1,10 @@
 package com.getirCase.customer_management_service.mapper;
 
 import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.model.response.CustomerSummaryResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
@@ -13,4 +15,8 @@ public interface CustomerMapper {
   Customer toEntity(CustomerRequest request);
 
   CustomerResponse toResponse(Customer customer);
+
+  CustomerResponse toResponse(CustomerView customer);
+
+  CustomerSummaryResponse toSummary(Customer customer);
 }
@@ -0,0 +1,25 @@
+package com.getirCase.customer_management_service.model.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message broadcast on {@code customer.events} after a customer has been modified, telling every
+ * node to drop its cached copy if it is older than {@code version}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerCacheInvalidationEvent {
+
+  @JsonProperty("eventType")
+  private String eventType;
+
+  @JsonProperty("customerId")
+  private Long customerId;
+
+  @JsonProperty("version")
+  private long version;
+}
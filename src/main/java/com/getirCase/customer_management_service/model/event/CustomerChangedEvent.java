@@ -0,0 +1,17 @@
+package com.getirCase.customer_management_service.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event published by the service layer whenever a customer row is modified. {@code
+ * version} is the row version after the change.
+ */
+@Data
+@AllArgsConstructor
+public class CustomerChangedEvent {
+
+  private Long customerId;
+
+  private long version;
+}
@@ -2,11 +2,20 @@ package com.getirCase.customer_management_service.model.event;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.Data;
 
 @Data
 public class CustomerEvent {
 
+  /**
+   * Producer assigned ID, the same for every delivery of the event. Events that carry one are
+   * processed at most once; see {@link
+   * com.getirCase.customer_management_service.service.handler.CustomerEventDeduplicator}.
+   */
+  @JsonProperty("eventId")
+  private UUID eventId;
+
   @JsonProperty("eventType")
   private String eventType;
 
@@ -19,6 +28,11 @@ public class CustomerEvent {
   @JsonProperty("timestamp")
   private LocalDateTime timestamp;
 
+  /**
+   * Event specific payload. {@link
+   * com.getirCase.customer_management_service.consumer.CustomerEventDecoder} leaves it undecoded as
+   * {@link RawJson}.
+   */
   @JsonProperty("data")
   private Object data;
 }
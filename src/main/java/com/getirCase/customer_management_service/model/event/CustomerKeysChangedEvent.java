@@ -0,0 +1,19 @@
+package com.getirCase.customer_management_service.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event published when a customer's email or phone number changes. Carries the values
+ * before the change, whose lookups must no longer resolve to the customer.
+ */
+@Data
+@AllArgsConstructor
+public class CustomerKeysChangedEvent {
+
+  private Long customerId;
+
+  private String previousEmail;
+
+  private String previousPhoneNumber;
+}
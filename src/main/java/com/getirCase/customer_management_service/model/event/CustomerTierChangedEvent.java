@@ -0,0 +1,26 @@
+package com.getirCase.customer_management_service.model.event;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published to {@code customer.tier-changes}, keyed by customer ID, when a customer's tier changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerTierChangedEvent {
+
+  private Long customerId;
+
+  private CustomerTier previousTier;
+
+  private CustomerTier tier;
+
+  private int orderCount;
+
+  private LocalDateTime changedAt;
+}
@@ -0,0 +1,33 @@
+package com.getirCase.customer_management_service.model.event;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Net order count change for one customer, merged from all events of a Kafka batch. When the batch
+ * contains a tier update event, {@code orderCount} holds the absolute count it set and {@code
+ * increment} only counts the orders created after it.
+ */
+@Data
+@NoArgsConstructor
+public class OrderCountDelta {
+
+  private Long customerId;
+
+  private Integer orderCount;
+
+  private int increment;
+
+  public OrderCountDelta(Long customerId) {
+    this.customerId = customerId;
+  }
+
+  public void addOrder() {
+    increment++;
+  }
+
+  public void resetTo(int orderCount) {
+    this.orderCount = orderCount;
+    this.increment = 0;
+  }
+}
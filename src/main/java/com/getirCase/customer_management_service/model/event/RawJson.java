@@ -0,0 +1,50 @@
+package com.getirCase.customer_management_service.model.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON value left undecoded inside the message it came from, either a string or UTF-8 bytes.
+ * Nothing is copied until {@link #toString()} or {@link #readAs} is called.
+ */
+public final class RawJson {
+
+  private final String source;
+  private final byte[] bytes;
+  private final int start;
+  private final int end;
+  private String json;
+
+  public RawJson(String source, int start, int end) {
+    this.source = source;
+    this.bytes = null;
+    this.start = start;
+    this.end = end;
+  }
+
+  public RawJson(byte[] bytes, int start, int end) {
+    this.source = null;
+    this.bytes = bytes;
+    this.start = start;
+    this.end = end;
+  }
+
+  public <T> T readAs(ObjectMapper objectMapper, Class<T> type) throws IOException {
+    if (bytes != null) {
+      return objectMapper.readValue(bytes, start, end - start, type);
+    }
+    return objectMapper.readValue(toString(), type);
+  }
+
+  @Override
+  public String toString() {
+    if (json == null) {
+      json =
+          bytes != null
+              ? new String(bytes, start, end - start, StandardCharsets.UTF_8)
+              : source.substring(start, end);
+    }
+    return json;
+  }
+}
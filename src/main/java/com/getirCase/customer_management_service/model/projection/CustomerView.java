@@ -0,0 +1,32 @@
+package com.getirCase.customer_management_service.model.projection;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import lombok.Value;
+
+/**
+ * The columns a customer response is built from, plus the ID and row version the caches are keyed
+ * and versioned by. Selected with a JPQL constructor expression, so reading one creates no managed
+ * entity: nothing enters the persistence context, no snapshot is taken and nothing is dirty-checked
+ * at flush.
+ */
+@Value
+public class CustomerView {
+
+  Long id;
+
+  String name;
+
+  String surname;
+
+  String email;
+
+  String phoneNumber;
+
+  String address;
+
+  CustomerTier tier;
+
+  int orderCount;
+
+  long version;
+}
@@ -0,0 +1,44 @@
+package com.getirCase.customer_management_service.model.request;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters and paging of a customer listing. All filters are optional and combined with AND. To
+ * fetch the next page, repeat the request with {@code cursor} set to the returned {@code
+ * nextCursor}; the sort and filters must stay the same.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSearchRequest {
+
+  private CustomerTier tier;
+
+  private Boolean active;
+
+  /** Case-sensitive prefix of the email address. */
+  private String emailPrefix;
+
+  /** Prefix of the phone number. */
+  private String phonePrefix;
+
+  /** Case-insensitive part of the name or surname. */
+  private String name;
+
+  /** {@code id}, {@code createdAt} or {@code orderCount}. */
+  private String sort = "id";
+
+  /** {@code asc} or {@code desc}. */
+  private String direction = "asc";
+
+  @Min(value = 1, message = "Limit must be at least 1")
+  @Max(value = 500, message = "Limit must be at most 500")
+  private int limit = 50;
+
+  private String cursor;
+}
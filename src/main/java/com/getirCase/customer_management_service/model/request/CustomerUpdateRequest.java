@@ -0,0 +1,21 @@
+package com.getirCase.customer_management_service.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One item of a bulk update: the customer to update and its new data. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerUpdateRequest {
+
+  @NotNull(message = "Customer ID is required")
+  private Long id;
+
+  @Valid
+  @NotNull(message = "Customer data is required")
+  private CustomerRequest customer;
+}
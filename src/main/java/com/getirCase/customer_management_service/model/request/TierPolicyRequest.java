@@ -0,0 +1,20 @@
+package com.getirCase.customer_management_service.model.request;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** New tier policy: the minimum order count of every tier. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TierPolicyRequest {
+
+  @NotEmpty(message = "Minimum order counts are required")
+  private Map<CustomerTier, @NotNull @PositiveOrZero Integer> minOrders;
+}
@@ -0,0 +1,38 @@
+package com.getirCase.customer_management_service.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.getirCase.customer_management_service.enums.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a bulk request. {@code index} is the position of the item in the request;
+ * {@code message} explains why a failed item was rejected.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerBulkItemResponse {
+
+  private int index;
+
+  private Long id;
+
+  private BulkItemStatus status;
+
+  private String message;
+
+  private CustomerResponse customer;
+
+  @JsonIgnore
+  public boolean isSuccessful() {
+    return status == BulkItemStatus.CREATED
+        || status == BulkItemStatus.UPDATED
+        || status == BulkItemStatus.FOUND;
+  }
+}
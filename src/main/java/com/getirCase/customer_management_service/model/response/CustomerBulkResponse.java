@@ -0,0 +1,23 @@
+package com.getirCase.customer_management_service.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBulkResponse {
+
+  private int succeeded;
+
+  private int failed;
+
+  private List<CustomerBulkItemResponse> items;
+
+  public static CustomerBulkResponse of(List<CustomerBulkItemResponse> items) {
+    int succeeded = (int) items.stream().filter(CustomerBulkItemResponse::isSuccessful).count();
+    return new CustomerBulkResponse(succeeded, items.size() - succeeded, items);
+  }
+}
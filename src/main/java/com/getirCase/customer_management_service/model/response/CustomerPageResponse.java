@@ -0,0 +1,17 @@
+package com.getirCase.customer_management_service.model.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPageResponse {
+
+  private List<CustomerSummaryResponse> items;
+
+  /** Cursor of the next page, or {@code null} if this is the last one. */
+  private String nextCursor;
+}
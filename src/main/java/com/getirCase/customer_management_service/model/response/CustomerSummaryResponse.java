@@ -0,0 +1,34 @@
+package com.getirCase.customer_management_service.model.response;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One customer of a listing. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSummaryResponse {
+
+  private Long id;
+
+  private String name;
+
+  private String surname;
+
+  private String email;
+
+  private String phoneNumber;
+
+  private CustomerTier tier;
+
+  private int orderCount;
+
+  private boolean active;
+
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,41 @@
+package com.getirCase.customer_management_service.model.response;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.enums.RetieringState;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Progress of the last bulk re-tiering run. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetieringStatusResponse {
+
+  private RetieringState state;
+
+  /** Minimum order count of each tier applied by the run. */
+  private Map<CustomerTier, Integer> policy;
+
+  /** Highest customer ID processed so far. */
+  private long processedUpToId;
+
+  private long maxId;
+
+  private double percentComplete;
+
+  /** Customers whose tier was changed. */
+  private long updatedRows;
+
+  private double rowsPerSecond;
+
+  private LocalDateTime startedAt;
+
+  private LocalDateTime finishedAt;
+
+  private String error;
+}
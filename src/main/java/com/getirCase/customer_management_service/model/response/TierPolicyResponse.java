@@ -0,0 +1,15 @@
+package com.getirCase.customer_management_service.model.response;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TierPolicyResponse {
+
+  private Map<CustomerTier, Integer> minOrders;
+}
@@ -0,0 +1,49 @@
+package com.getirCase.customer_management_service.repository;
+
+import com.getirCase.customer_management_service.entity.CustomerNotification;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerNotificationRepository extends JpaRepository<CustomerNotification, Long> {
+
+  /**
+   * Queues a notification unless the same one is already pending for the customer. Must run in the
+   * transaction that changed the order count.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO customer_notification (customer_id, order_count)
+          VALUES (:customerId, :orderCount)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int enqueue(@Param("customerId") Long customerId, @Param("orderCount") int orderCount);
+
+  /**
+   * Marks up to {@code limit} pending notifications as processed and returns them. Rows locked by
+   * another drainer are skipped, so concurrent schedulers never claim the same notification. The
+   * marking is rolled back with the surrounding transaction if sending fails.
+   */
+  @Query(
+      value =
+          """
+          UPDATE customer_notification
+          SET processed_at = CURRENT_TIMESTAMP
+          WHERE id IN (SELECT id
+                       FROM customer_notification
+                       WHERE processed_at IS NULL
+                       ORDER BY id
+                       LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+          RETURNING *
+          """,
+      nativeQuery = true)
+  List<CustomerNotification> claimPending(@Param("limit") int limit);
+}
@@ -1,18 +1,155 @@
 package com.getirCase.customer_management_service.repository;
 
 import com.getirCase.customer_management_service.entity.Customer;
-import jakarta.transaction.Transactional;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository
+    extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
 
-  @Modifying
-  @Transactional
-  @Query("UPDATE Customer c SET c.isActive = :isActive WHERE c.id = :customerId")
-  void updateIsActive(@Param("customerId") Long customerId, @Param("isActive") boolean isActive);
+  /**
+   * Selects customers as {@link CustomerView}s. The results are not entities, so reading them
+   * creates no persistence-context entries; append the {@code WHERE} clause.
+   */
+  String SELECT_VIEW =
+      "SELECT new com.getirCase.customer_management_service.model.projection.CustomerView("
+          + "c.id, c.name, c.surname, c.email, c.phoneNumber, c.address, c.tier, c.orderCount,"
+          + " c.version) FROM Customer c";
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_VIEW + " WHERE c.id = :customerId")
+  Optional<CustomerView> findViewById(@Param("customerId") Long customerId);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_VIEW + " WHERE c.email = :email")
+  Optional<CustomerView> findViewByEmail(@Param("email") String email);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_VIEW + " WHERE c.phoneNumber = :phoneNumber")
+  Optional<CustomerView> findViewByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_VIEW + " WHERE c.id IN :customerIds")
+  List<CustomerView> findViewsByIdIn(@Param("customerIds") Collection<Long> customerIds);
+
+  List<Customer> findByEmailInOrPhoneNumberIn(
+      Collection<String> emails, Collection<String> phoneNumbers);
+
+  /**
+   * Reads and locks the stored tier of a customer, so that it cannot change before the caller's
+   * update in the same transaction.
+   */
+  @Query(value = "SELECT tier FROM customer WHERE id = :customerId FOR UPDATE", nativeQuery = true)
+  Optional<String> lockTierById(@Param("customerId") Long customerId);
+
+  /**
+   * Atomically adds {@code delta} to the order count and recomputes the tier from the new count in
+   * the same statement, so concurrent increments never overwrite each other. Empty when no customer
+   * with the given ID exists.
+   */
+  @Query(
+      value =
+          """
+          UPDATE customer
+          SET order_count = order_count + :delta,
+              tier = CASE
+                       WHEN order_count + :delta >= :platinumThreshold THEN 'PLATINUM'
+                       WHEN order_count + :delta >= :goldThreshold THEN 'GOLD'
+                       ELSE 'REGULAR'
+                     END,
+              updated_at = CURRENT_TIMESTAMP,
+              version = version + 1
+          WHERE id = :customerId
+          RETURNING *
+          """,
+      nativeQuery = true)
+  Optional<Customer> incrementOrderCount(
+      @Param("customerId") Long customerId,
+      @Param("delta") int delta,
+      @Param("goldThreshold") int goldThreshold,
+      @Param("platinumThreshold") int platinumThreshold);
+
+  @Query(
+      value =
+          """
+          UPDATE customer
+          SET order_count = :orderCount,
+              tier = :tier,
+              updated_at = CURRENT_TIMESTAMP,
+              version = version + 1
+          WHERE id = :customerId
+          RETURNING *
+          """,
+      nativeQuery = true)
+  Optional<Customer> setOrderCount(
+      @Param("customerId") Long customerId,
+      @Param("orderCount") int orderCount,
+      @Param("tier") String tier);
+
+  @Query("SELECT COALESCE(MAX(c.id), 0) FROM Customer c")
+  long findMaxId();
+
+  /**
+   * Recomputes the tier of the customers with {@code afterId < id <= upToId} from the given
+   * thresholds in one statement. Only rows whose tier changes are locked and updated; each change
+   * is written to the {@code customer_tier_change} outbox by the same statement. Returns the ID and
+   * new version of every updated customer.
+   */
+  @Query(
+      value =
+          """
+          WITH target AS (
+            SELECT id,
+                   tier AS previous_tier,
+                   CASE
+                     WHEN order_count >= :platinumThreshold THEN 'PLATINUM'
+                     WHEN order_count >= :goldThreshold THEN 'GOLD'
+                     ELSE 'REGULAR'
+                   END AS tier
+            FROM customer
+            WHERE id > :afterId AND id <= :upToId
+              AND tier <> CASE
+                            WHEN order_count >= :platinumThreshold THEN 'PLATINUM'
+                            WHEN order_count >= :goldThreshold THEN 'GOLD'
+                            ELSE 'REGULAR'
+                          END
+            FOR UPDATE
+          ),
+          changed AS (
+            UPDATE customer c
+            SET tier = t.tier,
+                updated_at = CURRENT_TIMESTAMP,
+                version = c.version + 1
+            FROM target t
+            WHERE c.id = t.id
+            RETURNING c.id, c.version, t.previous_tier, c.tier, c.order_count
+          ),
+          outbox AS (
+            INSERT INTO customer_tier_change (customer_id, previous_tier, tier, order_count)
+            SELECT id, previous_tier, tier, order_count FROM changed
+          )
+          SELECT id, version FROM changed
+          """,
+      nativeQuery = true)
+  List<CustomerVersion> retierRange(
+      @Param("afterId") long afterId,
+      @Param("upToId") long upToId,
+      @Param("goldThreshold") int goldThreshold,
+      @Param("platinumThreshold") int platinumThreshold);
+
+  /** ID and row version of a customer changed by a bulk statement. */
+  interface CustomerVersion {
+    Long getId();
+
+    long getVersion();
+  }
 }
@@ -0,0 +1,80 @@
+package com.getirCase.customer_management_service.repository;
+
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import jakarta.persistence.criteria.Path;
+import java.util.Locale;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filters of the customer listing. Each predicate is written so that it can use one of the indexes
+ * of changeset 10: prefixes become {@code LIKE 'abc%'} on the pattern indexes and name matches
+ * become {@code lower(...) LIKE '%abc%'} on the trigram indexes.
+ */
+public final class CustomerSpecifications {
+
+  private static final char LIKE_ESCAPE = '\\';
+
+  private CustomerSpecifications() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  public static Specification<Customer> hasTier(CustomerTier tier) {
+    return (root, query, cb) -> cb.equal(root.get("tier"), tier);
+  }
+
+  public static Specification<Customer> isActive(boolean active) {
+    return (root, query, cb) -> cb.equal(root.get("isActive"), active);
+  }
+
+  public static Specification<Customer> emailStartsWith(String prefix) {
+    return (root, query, cb) ->
+        cb.like(root.get("email"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+  }
+
+  public static Specification<Customer> phoneNumberStartsWith(String prefix) {
+    return (root, query, cb) ->
+        cb.like(root.get("phoneNumber"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+  }
+
+  public static Specification<Customer> nameContains(String text) {
+    return (root, query, cb) -> {
+      String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+      return cb.or(
+          cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE),
+          cb.like(cb.lower(root.get("surname")), pattern, LIKE_ESCAPE));
+    };
+  }
+
+  /**
+   * Keyset condition for the rows that share the sort key {@code value} and come after {@code id}.
+   * Together with {@link #sortKeyAfter} it selects everything after a cursor; each of the two is a
+   * single range on the {@code (property, id)} index, so a page costs the same wherever it starts.
+   */
+  public static <T extends Comparable<? super T>> Specification<Customer> sortKeyEqualIdAfter(
+      String property, T value, long id, boolean descending) {
+    Specification<Customer> sameKey = (root, query, cb) -> cb.equal(root.get(property), value);
+    return sameKey.and(idAfter(id, descending));
+  }
+
+  /** Keyset condition for the rows whose sort key comes after {@code value}. */
+  public static <T extends Comparable<? super T>> Specification<Customer> sortKeyAfter(
+      String property, T value, boolean descending) {
+    return (root, query, cb) -> {
+      Path<T> sortKey = root.get(property);
+      return descending ? cb.lessThan(sortKey, value) : cb.greaterThan(sortKey, value);
+    };
+  }
+
+  /** Keyset condition for the rows after {@code id} in ID order. */
+  public static Specification<Customer> idAfter(long id, boolean descending) {
+    return (root, query, cb) -> {
+      Path<Long> idKey = root.get("id");
+      return descending ? cb.lessThan(idKey, id) : cb.greaterThan(idKey, id);
+    };
+  }
+
+  private static String escapeLike(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
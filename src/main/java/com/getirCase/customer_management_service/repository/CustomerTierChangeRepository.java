@@ -0,0 +1,31 @@
+package com.getirCase.customer_management_service.repository;
+
+import com.getirCase.customer_management_service.entity.CustomerTierChange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerTierChangeRepository extends JpaRepository<CustomerTierChange, Long> {
+
+  /** Returns the oldest {@code limit} pending tier changes in the order they were written. */
+  @Query(
+      value = "SELECT * FROM customer_tier_change ORDER BY id LIMIT :limit",
+      nativeQuery = true)
+  List<CustomerTierChange> findPending(@Param("limit") int limit);
+
+  /**
+   * Takes the relay lock for the current transaction, so that only one instance publishes at a time
+   * and changes of the same customer cannot be sent out of order.
+   *
+   * @return {@code false} if another instance holds the lock
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryRelayLock(@Param("key") long key);
+
+  @Query("SELECT MIN(c.createdAt) FROM CustomerTierChange c")
+  LocalDateTime findOldestCreatedAt();
+}
@@ -0,0 +1,60 @@
+package com.getirCase.customer_management_service.repository;
+
+import com.getirCase.customer_management_service.entity.ProcessedEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID> {
+
+  /**
+   * Records the event as processed.
+   *
+   * @return 1 if it was recorded, 0 if it had been processed before
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO processed_event (event_id)
+          VALUES (:eventId)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int markProcessed(@Param("eventId") UUID eventId);
+
+  /**
+   * Records all events of a comma separated ID list in one statement and returns the ones that had
+   * not been processed before.
+   */
+  @Query(
+      value =
+          """
+          INSERT INTO processed_event (event_id)
+          SELECT CAST(id AS uuid) FROM unnest(string_to_array(:eventIds, ',')) AS id
+          ON CONFLICT DO NOTHING
+          RETURNING *
+          """,
+      nativeQuery = true)
+  List<ProcessedEvent> markAllProcessed(@Param("eventIds") String eventIds);
+
+  /** Deletes up to {@code limit} events processed before {@code cutoff}. */
+  @Modifying
+  @Query(
+      value =
+          """
+          DELETE FROM processed_event
+          WHERE event_id IN (SELECT event_id
+                             FROM processed_event
+                             WHERE processed_at < :cutoff
+                             LIMIT :limit)
+          """,
+      nativeQuery = true)
+  int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,27 @@
+package com.getirCase.customer_management_service.repository;
+
+import com.getirCase.customer_management_service.entity.TierThreshold;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TierThresholdRepository extends JpaRepository<TierThreshold, CustomerTier> {
+
+  /** Stores the threshold of a tier unless one has already been stored. */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          """
+          INSERT INTO tier_threshold (tier, min_orders)
+          VALUES (:tier, :minOrders)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int seed(@Param("tier") String tier, @Param("minOrders") int minOrders);
+}
@@ -1,47 +1,97 @@
 package com.getirCase.customer_management_service.scheduler;
 
-import com.getirCase.customer_management_service.entity.Customer;
-import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.entity.CustomerNotification;
+import com.getirCase.customer_management_service.repository.CustomerNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Sends the pending promotion notifications every five minutes. Publishes {@code
+ * customer.notifications.run}, the duration of each run, and {@code
+ * customer.notifications.claimed}, the outbox rows claimed and sent.
+ */
 @Component
 public class CustomerNotificationScheduler {
 
   private static final Logger logger = LoggerFactory.getLogger(CustomerNotificationScheduler.class);
 
-  private final CustomerRepository customerRepository;
+  private final CustomerNotificationRepository notificationRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Timer runTimer;
+  private final Counter claimedCounter;
 
-  public CustomerNotificationScheduler(CustomerRepository customerRepository) {
-    this.customerRepository = customerRepository;
+  public CustomerNotificationScheduler(
+      CustomerNotificationRepository notificationRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${customer.notification.batch-size:500}") int batchSize) {
+    this.notificationRepository = notificationRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.runTimer =
+        Timer.builder("customer.notifications.run")
+            .description("Duration of a notification scheduler run")
+            .register(meterRegistry);
+    this.claimedCounter =
+        Counter.builder("customer.notifications.claimed")
+            .description("Notification outbox rows claimed and sent")
+            .register(meterRegistry);
   }
 
   @Scheduled(cron = "0 */5 * * * ?")
   public void checkCustomerLevels() {
-    logger.info("Checking customer levels for notifications...");
+    logger.info("Sending pending customer notifications...");
 
-    List<Customer> customers = customerRepository.findAll();
+    Timer.Sample sample = Timer.start();
+    int notified = sendPendingNotifications();
+    sample.stop(runTimer);
 
-    for (Customer customer : customers) {
-      int orderCount = customer.getOrderCount();
+    logger.info("Sent {} promotion notifications", notified);
+  }
+
+  /**
+   * Drains the notification outbox one batch per transaction until it is empty. Each batch is
+   * claimed and marked processed in a single statement, so a notification is marked exactly once
+   * even with several instances running; if sending fails the batch is rolled back and retried on
+   * the next run.
+   */
+  int sendPendingNotifications() {
+    int notified = 0;
+    int claimed;
+
+    do {
+      claimed =
+          transactionTemplate.execute(
+              status -> {
+                List<CustomerNotification> batch = notificationRepository.claimPending(batchSize);
+                batch.forEach(this::sendNotification);
+                return batch.size();
+              });
+      claimedCounter.increment(claimed);
+      notified += claimed;
+    } while (claimed == batchSize);
 
-      if (orderCount == 9 || orderCount == 19) {
-        sendNotification(customer.getId(), orderCount);
-      }
-    }
+    return notified;
   }
 
-  private void sendNotification(Long customerId, int orderCount) {
+  private void sendNotification(CustomerNotification notification) {
     String message =
         "You have placed "
-            + orderCount
+            + notification.getOrderCount()
             + " orders with us. "
             + "Buy one more and you will be promoted!";
 
-    logger.info("Notification sent to customer {}: {}", customerId, message);
+    logger.info("Notification sent to customer {}: {}", notification.getCustomerId(), message);
     System.out.println("Notification: " + message);
   }
 }
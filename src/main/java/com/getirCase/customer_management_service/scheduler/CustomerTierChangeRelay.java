@@ -0,0 +1,169 @@
+package com.getirCase.customer_management_service.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.entity.CustomerTierChange;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.event.CustomerTierChangedEvent;
+import com.getirCase.customer_management_service.repository.CustomerTierChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relays the {@code customer_tier_change} outbox to {@code customer.tier-changes}. Each batch is
+ * read, sent and deleted in one transaction that holds a PostgreSQL advisory lock, so only one
+ * instance relays at a time and rows go out in the order they were written. Rows are deleted only
+ * after Kafka has acknowledged every record of the batch; a failure rolls the batch back and it is
+ * sent again on the next run. Delivery is therefore at-least-once and ordered per customer.
+ *
+ * <p>Publishes {@code customer.tier_changes.relayed} (throughput), {@code
+ * customer.tier_changes.relay.batch} (time to send one batch) and {@code
+ * customer.tier_changes.relay.lag} (age of the oldest unsent change, in seconds).
+ */
+@Component
+public class CustomerTierChangeRelay {
+
+  private static final Logger logger = LoggerFactory.getLogger(CustomerTierChangeRelay.class);
+
+  /** Advisory lock key of the relay, unique within the database. */
+  private static final long RELAY_LOCK_KEY = 0x7469657252656CL;
+
+  private final CustomerTierChangeRepository tierChangeRepository;
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration sendTimeout;
+  private final Counter relayedCounter;
+  private final Timer batchTimer;
+  private final AtomicLong lagMillis = new AtomicLong();
+
+  public CustomerTierChangeRelay(
+      CustomerTierChangeRepository tierChangeRepository,
+      KafkaTemplate<String, String> kafkaTemplate,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${customer.tier-changes.relay.batch-size:500}") int batchSize,
+      @Value("${customer.tier-changes.relay.send-timeout:PT10S}") Duration sendTimeout) {
+    this.tierChangeRepository = tierChangeRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.sendTimeout = sendTimeout;
+    this.relayedCounter =
+        Counter.builder("customer.tier_changes.relayed")
+            .description("Tier changes published to customer.tier-changes")
+            .register(meterRegistry);
+    this.batchTimer =
+        Timer.builder("customer.tier_changes.relay.batch")
+            .description("Time to publish and delete one outbox batch")
+            .register(meterRegistry);
+    Gauge.builder("customer.tier_changes.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+        .description("Age of the oldest tier change not yet published, in seconds")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${customer.tier-changes.relay.interval:1000}")
+  public void relayTierChanges() {
+    try {
+      int relayed = relayPending();
+      if (relayed > 0) {
+        logger.info("Relayed {} tier changes", relayed);
+      }
+    } finally {
+      updateLag();
+    }
+  }
+
+  /** Publishes batches until the outbox is drained or another instance holds the relay lock. */
+  int relayPending() {
+    int relayed = 0;
+    int sent;
+
+    do {
+      sent = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+      relayed += sent;
+    } while (sent == batchSize);
+
+    return relayed;
+  }
+
+  private int relayBatch() {
+    if (!tierChangeRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+      return 0;
+    }
+
+    List<CustomerTierChange> changes = tierChangeRepository.findPending(batchSize);
+    if (changes.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<?>> sends = new ArrayList<>(changes.size());
+    for (CustomerTierChange change : changes) {
+      sends.add(
+          kafkaTemplate.send(
+              KafkaTopics.CUSTOMER_TIER_CHANGES.getTopicName(),
+              change.getCustomerId().toString(),
+              toJson(change)));
+    }
+    awaitAll(sends);
+
+    tierChangeRepository.deleteAllInBatch(changes);
+    relayedCounter.increment(changes.size());
+    return changes.size();
+  }
+
+  private void awaitAll(List<CompletableFuture<?>> sends) {
+    try {
+      CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+          .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KafkaException("Interrupted while publishing tier changes", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new KafkaException("Could not publish tier changes", e);
+    }
+  }
+
+  private String toJson(CustomerTierChange change) {
+    try {
+      return objectMapper.writeValueAsString(
+          new CustomerTierChangedEvent(
+              change.getCustomerId(),
+              change.getPreviousTier(),
+              change.getTier(),
+              change.getOrderCount(),
+              change.getCreatedAt()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize tier change " + change.getId(), e);
+    }
+  }
+
+  private void updateLag() {
+    LocalDateTime oldest = tierChangeRepository.findOldestCreatedAt();
+    lagMillis.set(
+        oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+  }
+}
@@ -0,0 +1,63 @@
+package com.getirCase.customer_management_service.scheduler;
+
+import com.getirCase.customer_management_service.repository.ProcessedEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Prunes {@code processed_event}. An event ID only needs to be kept for as long as the event can be
+ * redelivered, which {@code customer.events.dedup.retention} must cover.
+ */
+@Component
+public class ProcessedEventCleanupScheduler {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ProcessedEventCleanupScheduler.class);
+
+  private final ProcessedEventRepository processedEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration retention;
+  private final int batchSize;
+
+  public ProcessedEventCleanupScheduler(
+      ProcessedEventRepository processedEventRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${customer.events.dedup.retention:P7D}") Duration retention,
+      @Value("${customer.events.dedup.cleanup-batch-size:10000}") int batchSize) {
+    this.processedEventRepository = processedEventRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retention = retention;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(cron = "${customer.events.dedup.cleanup-cron:0 0 * * * ?}")
+  public void pruneProcessedEvents() {
+    int deleted = deleteExpired(LocalDateTime.now().minus(retention));
+    logger.info("Pruned {} processed event IDs", deleted);
+  }
+
+  /**
+   * Deletes the events processed before {@code cutoff}, one batch per transaction so that no long
+   * running delete holds locks against the consumers.
+   */
+  int deleteExpired(LocalDateTime cutoff) {
+    int deleted = 0;
+    int batch;
+
+    do {
+      batch =
+          transactionTemplate.execute(
+              status -> processedEventRepository.deleteProcessedBefore(cutoff, batchSize));
+      deleted += batch;
+    } while (batch == batchSize);
+
+    return deleted;
+  }
+}
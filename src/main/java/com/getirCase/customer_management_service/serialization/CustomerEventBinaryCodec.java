@@ -0,0 +1,214 @@
+package com.getirCase.customer_management_service.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.model.event.RawJson;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Compact binary layout for {@link CustomerEvent}, version 1:
+ *
+ * <pre>
+ * byte    format version (1)
+ * varint  event type wire code, 0 when absent
+ * byte    presence flags: 1 customerId, 2 orderCount, 4 timestamp, 8 data, 16 eventId
+ * varlong customerId                     (zigzag)
+ * varint  orderCount                     (zigzag)
+ * varlong timestamp epoch second in UTC  (zigzag), varint nano of second
+ * varint  data length, then the data as UTF-8 JSON
+ * 16 byte eventId, most significant bits first
+ * </pre>
+ *
+ * <p>Decoders reject versions they do not know, so a new layout must bump the version. The data
+ * payload is not decoded; it is returned as a {@link RawJson} view of the record bytes.
+ */
+public class CustomerEventBinaryCodec {
+
+  public static final int VERSION = 1;
+
+  private static final int HAS_CUSTOMER_ID = 1;
+  private static final int HAS_ORDER_COUNT = 2;
+  private static final int HAS_TIMESTAMP = 4;
+  private static final int HAS_DATA = 8;
+  private static final int HAS_EVENT_ID = 16;
+
+  private final ObjectMapper objectMapper;
+
+  public CustomerEventBinaryCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public byte[] encode(CustomerEvent event) {
+    byte[] data = dataBytes(event.getData());
+    ByteArrayOutputStream out = new ByteArrayOutputStream(32 + (data == null ? 0 : data.length));
+
+    out.write(VERSION);
+    writeVarLong(out, event.getEventType() == null ? 0 : wireCode(event.getEventType()));
+    out.write(
+        (event.getCustomerId() != null ? HAS_CUSTOMER_ID : 0)
+            | (event.getOrderCount() != null ? HAS_ORDER_COUNT : 0)
+            | (event.getTimestamp() != null ? HAS_TIMESTAMP : 0)
+            | (data != null ? HAS_DATA : 0)
+            | (event.getEventId() != null ? HAS_EVENT_ID : 0));
+
+    if (event.getCustomerId() != null) {
+      writeVarLong(out, zigzag(event.getCustomerId()));
+    }
+    if (event.getOrderCount() != null) {
+      writeVarLong(out, zigzag(event.getOrderCount()));
+    }
+    if (event.getTimestamp() != null) {
+      writeVarLong(out, zigzag(event.getTimestamp().toEpochSecond(ZoneOffset.UTC)));
+      writeVarLong(out, event.getTimestamp().getNano());
+    }
+    if (data != null) {
+      writeVarLong(out, data.length);
+      out.write(data, 0, data.length);
+    }
+    if (event.getEventId() != null) {
+      writeLong(out, event.getEventId().getMostSignificantBits());
+      writeLong(out, event.getEventId().getLeastSignificantBits());
+    }
+    return out.toByteArray();
+  }
+
+  public CustomerEvent decode(byte[] bytes) {
+    Reader reader = new Reader(bytes);
+    int version = reader.readByte();
+    if (version != VERSION) {
+      throw new SerializationException("Unsupported binary customer event version: " + version);
+    }
+
+    CustomerEvent event = new CustomerEvent();
+    int typeCode = (int) reader.readVarLong();
+    if (typeCode != 0) {
+      event.setEventType(eventType(typeCode));
+    }
+
+    int flags = reader.readByte();
+    if ((flags & HAS_CUSTOMER_ID) != 0) {
+      event.setCustomerId(unzigzag(reader.readVarLong()));
+    }
+    if ((flags & HAS_ORDER_COUNT) != 0) {
+      event.setOrderCount((int) unzigzag(reader.readVarLong()));
+    }
+    if ((flags & HAS_TIMESTAMP) != 0) {
+      long epochSecond = unzigzag(reader.readVarLong());
+      int nano = (int) reader.readVarLong();
+      event.setTimestamp(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+    }
+    if ((flags & HAS_DATA) != 0) {
+      int length = (int) reader.readVarLong();
+      event.setData(new RawJson(bytes, reader.skip(length), reader.position));
+    }
+    if ((flags & HAS_EVENT_ID) != 0) {
+      event.setEventId(new UUID(reader.readLong(), reader.readLong()));
+    }
+    return event;
+  }
+
+  private static int wireCode(String eventType) {
+    try {
+      return KafkaEventType.valueOf(eventType).getWireCode();
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("No wire code for event type " + eventType, e);
+    }
+  }
+
+  private static String eventType(int wireCode) {
+    try {
+      return KafkaEventType.fromWireCode(wireCode).name();
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("Unknown event type in binary customer event", e);
+    }
+  }
+
+  private byte[] dataBytes(Object data) {
+    if (data == null) {
+      return null;
+    }
+    if (data instanceof RawJson raw) {
+      return raw.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    try {
+      return objectMapper.writeValueAsBytes(data);
+    } catch (JsonProcessingException e) {
+      throw new SerializationException("Could not serialize customer event data", e);
+    }
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static void writeLong(ByteArrayOutputStream out, long value) {
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      out.write((int) (value >>> shift));
+    }
+  }
+
+  private static final class Reader {
+    private final byte[] bytes;
+    private int position;
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    int readByte() {
+      if (position >= bytes.length) {
+        throw new SerializationException("Truncated binary customer event");
+      }
+      return bytes[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        int b = readByte();
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new SerializationException("Malformed varint in binary customer event");
+    }
+
+    long readLong() {
+      long value = 0;
+      for (int i = 0; i < 8; i++) {
+        value = (value << 8) | readByte();
+      }
+      return value;
+    }
+
+    /** Skips {@code length} bytes and returns the position where they start. */
+    int skip(int length) {
+      if (length < 0 || length > bytes.length - position) {
+        throw new SerializationException("Truncated binary customer event");
+      }
+      int start = position;
+      position += length;
+      return start;
+    }
+  }
+}
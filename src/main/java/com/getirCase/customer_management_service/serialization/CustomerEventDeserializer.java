@@ -0,0 +1,62 @@
+package com.getirCase.customer_management_service.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.consumer.CustomerEventDecoder;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads {@code customer.events} record values straight from bytes. Records marked with the binary
+ * {@code contentType} header go through {@link CustomerEventBinaryCodec}; all others are JSON and
+ * go through the streaming {@link CustomerEventDecoder}, so JSON and binary producers can share
+ * the topic while they migrate.
+ */
+public class CustomerEventDeserializer implements Deserializer<CustomerEvent> {
+
+  private static final byte[] BINARY_CONTENT_TYPE =
+      EventHeaders.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+  private final CustomerEventDecoder jsonDecoder;
+  private final CustomerEventBinaryCodec binaryCodec;
+
+  public CustomerEventDeserializer() {
+    this(new ObjectMapper().findAndRegisterModules());
+  }
+
+  public CustomerEventDeserializer(ObjectMapper objectMapper) {
+    this.jsonDecoder = new CustomerEventDecoder(objectMapper);
+    this.binaryCodec = new CustomerEventBinaryCodec(objectMapper);
+  }
+
+  @Override
+  public CustomerEvent deserialize(String topic, byte[] data) {
+    return data == null ? null : decodeJson(data);
+  }
+
+  @Override
+  public CustomerEvent deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    Header contentType = headers.lastHeader(EventHeaders.CONTENT_TYPE);
+    if (contentType != null && Arrays.equals(contentType.value(), BINARY_CONTENT_TYPE)) {
+      return binaryCodec.decode(data);
+    }
+    return decodeJson(data);
+  }
+
+  private CustomerEvent decodeJson(byte[] data) {
+    try {
+      return jsonDecoder.decode(data);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new SerializationException("Malformed JSON customer event", e);
+    }
+  }
+}
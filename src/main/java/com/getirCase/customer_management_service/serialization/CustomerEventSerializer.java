@@ -0,0 +1,58 @@
+package com.getirCase.customer_management_service.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes {@link CustomerEvent}s in the binary format and marks them with the {@code contentType}
+ * and {@code eventType} headers. Producers can switch to it by setting it as value serializer.
+ * Without headers, e.g. when called directly, it falls back to JSON.
+ */
+public class CustomerEventSerializer implements Serializer<CustomerEvent> {
+
+  private static final byte[] BINARY_CONTENT_TYPE =
+      EventHeaders.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper;
+  private final CustomerEventBinaryCodec binaryCodec;
+
+  public CustomerEventSerializer() {
+    this(new ObjectMapper().findAndRegisterModules());
+  }
+
+  public CustomerEventSerializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.binaryCodec = new CustomerEventBinaryCodec(objectMapper);
+  }
+
+  @Override
+  public byte[] serialize(String topic, CustomerEvent event) {
+    if (event == null) {
+      return null;
+    }
+    try {
+      return objectMapper.writeValueAsBytes(event);
+    } catch (JsonProcessingException e) {
+      throw new SerializationException("Could not serialize customer event", e);
+    }
+  }
+
+  @Override
+  public byte[] serialize(String topic, Headers headers, CustomerEvent event) {
+    if (event == null) {
+      return null;
+    }
+    headers.remove(EventHeaders.CONTENT_TYPE);
+    headers.add(EventHeaders.CONTENT_TYPE, BINARY_CONTENT_TYPE);
+    if (event.getEventType() != null && headers.lastHeader(EventHeaders.EVENT_TYPE) == null) {
+      headers.add(EventHeaders.EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8));
+    }
+    return binaryCodec.encode(event);
+  }
+}
@@ -1,12 +1,23 @@
 package com.getirCase.customer_management_service.service;
 
+import com.getirCase.customer_management_service.model.event.OrderCountDelta;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.request.CustomerSearchRequest;
+import com.getirCase.customer_management_service.model.request.CustomerUpdateRequest;
+import com.getirCase.customer_management_service.model.response.CustomerBulkResponse;
+import com.getirCase.customer_management_service.model.response.CustomerPageResponse;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
 import jakarta.validation.Valid;
+import java.util.Collection;
+import java.util.List;
 
 public interface CustomerService {
   CustomerResponse getCustomer(Long customerId);
 
+  CustomerResponse getCustomerByEmail(String email);
+
+  CustomerResponse getCustomerByPhoneNumber(String phoneNumber);
+
   CustomerResponse createCustomer(@Valid CustomerRequest request);
 
   void deleteCustomer(Long customerId);
@@ -18,4 +29,14 @@ public interface CustomerService {
   CustomerResponse updateOrderCount(Long customerId, int orderCount);
 
   CustomerResponse createOrder(Long customerId);
+
+  void applyOrderCountDeltas(Collection<OrderCountDelta> deltas);
+
+  CustomerBulkResponse getCustomers(List<Long> customerIds);
+
+  CustomerPageResponse searchCustomers(CustomerSearchRequest request);
+
+  CustomerBulkResponse createCustomers(List<CustomerRequest> requests);
+
+  CustomerBulkResponse updateCustomers(List<CustomerUpdateRequest> requests);
 }
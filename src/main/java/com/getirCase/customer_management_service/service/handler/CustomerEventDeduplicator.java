@@ -0,0 +1,104 @@
+package com.getirCase.customer_management_service.service.handler;
+
+import com.getirCase.customer_management_service.entity.ProcessedEvent;
+import com.getirCase.customer_management_service.repository.ProcessedEventRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Makes event processing idempotent. An event is claimed by inserting its ID into {@code
+ * processed_event} in the transaction that applies it, so the claim commits or rolls back together
+ * with the order count change.
+ *
+ * <p>IDs of recently committed events are also kept in a bounded in-memory window. Redeliveries
+ * after a rebalance are usually among them and are rejected without a database round trip; the
+ * table remains the authority for everything else.
+ */
+@Component
+public class CustomerEventDeduplicator {
+
+  private final ProcessedEventRepository processedEventRepository;
+  private final Set<UUID> recentlyProcessed;
+
+  public CustomerEventDeduplicator(
+      ProcessedEventRepository processedEventRepository,
+      @Value("${customer.events.dedup.window-size:100000}") long windowSize,
+      @Value("${customer.events.dedup.retention:P7D}") Duration retention) {
+    this.processedEventRepository = processedEventRepository;
+    this.recentlyProcessed =
+        Collections.newSetFromMap(
+            Caffeine.newBuilder()
+                .maximumSize(windowSize)
+                .expireAfterWrite(retention)
+                .<UUID, Boolean>build()
+                .asMap());
+  }
+
+  /**
+   * Claims the event for the current transaction.
+   *
+   * @return {@code false} if the event has been processed before and must be skipped
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean claim(UUID eventId) {
+    if (recentlyProcessed.contains(eventId)) {
+      return false;
+    }
+    if (processedEventRepository.markProcessed(eventId) == 0) {
+      recentlyProcessed.add(eventId);
+      return false;
+    }
+    rememberAfterCommit(Set.of(eventId));
+    return true;
+  }
+
+  /**
+   * Claims all events for the current transaction with a single insert.
+   *
+   * @return the IDs that had not been processed before
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Set<UUID> claimAll(Collection<UUID> eventIds) {
+    Set<UUID> candidates = new LinkedHashSet<>(eventIds);
+    candidates.removeAll(recentlyProcessed);
+    if (candidates.isEmpty()) {
+      return new HashSet<>();
+    }
+
+    Set<UUID> claimed =
+        processedEventRepository
+            .markAllProcessed(
+                candidates.stream().map(UUID::toString).collect(Collectors.joining(",")))
+            .stream()
+            .map(ProcessedEvent::getEventId)
+            .collect(Collectors.toCollection(HashSet::new));
+
+    candidates.removeAll(claimed);
+    recentlyProcessed.addAll(candidates);
+    rememberAfterCommit(Set.copyOf(claimed));
+    return claimed;
+  }
+
+  private void rememberAfterCommit(Set<UUID> eventIds) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recentlyProcessed.addAll(eventIds);
+          }
+        });
+  }
+}
@@ -1,20 +1,32 @@
 package com.getirCase.customer_management_service.service.handler;
 
+import com.getirCase.customer_management_service.enums.KafkaEventType;
 import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.model.event.OrderCountDelta;
 import com.getirCase.customer_management_service.service.CustomerService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
 public class CustomerEventHandler {
 
   private final CustomerService customerService;
+  private final CustomerEventDeduplicator deduplicator;
 
-  public CustomerEventHandler(CustomerService customerService) {
+  public CustomerEventHandler(
+      CustomerService customerService, CustomerEventDeduplicator deduplicator) {
     this.customerService = Objects.requireNonNull(customerService, "CustomerService cannot be null");
+    this.deduplicator = deduplicator;
   }
 
   public void handleCustomerOrderCreated(CustomerEvent event) {
@@ -22,8 +34,108 @@ public class CustomerEventHandler {
     customerService.createOrder(event.getCustomerId());
   }
 
+  /**
+   * Sets the customer's order count. An event without an order count fails with {@link
+   * IllegalArgumentException}, which the listeners treat as non-retryable.
+   */
   public void handleCustomerTierUpdated(CustomerEvent event) {
+    if (event.getOrderCount() == null) {
+      throw new IllegalArgumentException(
+          "Missing orderCount in CUSTOMER_TIER_UPDATED_EVENT " + event.getEventId());
+    }
     log.info("Processing CUSTOMER_TIER_UPDATED event for customer ID: {}", event.getCustomerId());
     customerService.updateCustomerTier(event.getCustomerId(), event.getOrderCount());
   }
+
+  /**
+   * Routes a single event to the handler for its type. An event without a known type fails with
+   * {@link IllegalArgumentException}, which the listeners treat as non-retryable. An event whose ID
+   * has been processed before is skipped; the ID is recorded in the same transaction as the event's
+   * effects.
+   */
+  @Transactional
+  public void handleCustomerEvent(CustomerEvent event) {
+    if (event.getEventType() == null) {
+      throw new IllegalArgumentException(
+          "Missing eventType in Kafka event "
+              + event.getEventId()
+              + " for customer "
+              + event.getCustomerId());
+    }
+    KafkaEventType eventType = KafkaEventType.valueOf(event.getEventType());
+    if (event.getEventId() != null && !deduplicator.claim(event.getEventId())) {
+      log.info("Skipping already processed event {}", event.getEventId());
+      return;
+    }
+
+    switch (eventType) {
+      case CUSTOMER_ORDER_CREATED_EVENT:
+        handleCustomerOrderCreated(event);
+        break;
+      case CUSTOMER_TIER_UPDATED_EVENT:
+        handleCustomerTierUpdated(event);
+        break;
+      case CUSTOMER_CACHE_INVALIDATED_EVENT:
+        break;
+      default:
+        log.warn("Unknown event type received: {}", eventType);
+    }
+  }
+
+  /**
+   * Merges the events of one poll into a single order count delta per customer, keeping the order
+   * in which they were received, and applies all deltas in one transaction. Events processed
+   * before, including repeats within the batch, are left out of the deltas.
+   */
+  @Transactional
+  public void handleCustomerEventBatch(List<CustomerEvent> events) {
+    Map<Long, OrderCountDelta> deltas = new LinkedHashMap<>();
+    Set<UUID> claimed = claimEventIds(events);
+
+    for (CustomerEvent event : events) {
+      if (event.getEventId() != null && !claimed.remove(event.getEventId())) {
+        log.info("Skipping already processed event {}", event.getEventId());
+        continue;
+      }
+      if (event.getCustomerId() == null) {
+        log.warn("Skipping {} event without customer ID", event.getEventType());
+        continue;
+      }
+
+      switch (KafkaEventType.valueOf(event.getEventType())) {
+        case CUSTOMER_ORDER_CREATED_EVENT:
+          deltas.computeIfAbsent(event.getCustomerId(), OrderCountDelta::new).addOrder();
+          break;
+        case CUSTOMER_TIER_UPDATED_EVENT:
+          if (event.getOrderCount() == null) {
+            log.warn(
+                "Skipping tier update without order count for customer ID: {}",
+                event.getCustomerId());
+            continue;
+          }
+          deltas
+              .computeIfAbsent(event.getCustomerId(), OrderCountDelta::new)
+              .resetTo(event.getOrderCount());
+          break;
+        case CUSTOMER_CACHE_INVALIDATED_EVENT:
+          break;
+        default:
+          log.warn("Unknown event type received: {}", event.getEventType());
+      }
+    }
+
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    log.info(
+        "Applying {} events as order count deltas for {} customers", events.size(), deltas.size());
+    customerService.applyOrderCountDeltas(deltas.values());
+  }
+
+  private Set<UUID> claimEventIds(List<CustomerEvent> events) {
+    List<UUID> eventIds =
+        events.stream().map(CustomerEvent::getEventId).filter(Objects::nonNull).toList();
+    return eventIds.isEmpty() ? new HashSet<>() : deduplicator.claimAll(eventIds);
+  }
 }
@@ -0,0 +1,108 @@
+package com.getirCase.customer_management_service.service.impl;
+
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerSortField;
+import com.getirCase.customer_management_service.repository.CustomerSpecifications;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Position of the last customer of a listing page: its sort key and ID, plus the order they were
+ * read in so that a cursor cannot be replayed against a different sort. Encoded as opaque URL-safe
+ * Base64.
+ */
+final class CustomerSearchCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final CustomerSortField sortField;
+  private final boolean descending;
+  private final String value;
+  private final long id;
+
+  private CustomerSearchCursor(
+      CustomerSortField sortField, boolean descending, String value, long id) {
+    this.sortField = sortField;
+    this.descending = descending;
+    this.value = value;
+    this.id = id;
+  }
+
+  static CustomerSearchCursor after(
+      Customer customer, CustomerSortField sortField, boolean descending) {
+    String value;
+    switch (sortField) {
+      case CREATED_AT:
+        value = customer.getCreatedAt().toString();
+        break;
+      case ORDER_COUNT:
+        value = Integer.toString(customer.getOrderCount());
+        break;
+      default:
+        value = "";
+    }
+    return new CustomerSearchCursor(sortField, descending, value, customer.getId());
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code cursor} is malformed or was issued for another sort
+   */
+  static CustomerSearchCursor decode(
+      String cursor, CustomerSortField sortField, boolean descending) {
+    String[] parts;
+    try {
+      parts =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+              .split("\\" + SEPARATOR, -1);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Malformed cursor", e);
+    }
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Malformed cursor");
+    }
+    if (!parts[0].equals(sortField.name()) || Boolean.parseBoolean(parts[1]) != descending) {
+      throw new IllegalArgumentException("Cursor was issued for a different sort order");
+    }
+
+    CustomerSearchCursor decoded;
+    try {
+      decoded = new CustomerSearchCursor(sortField, descending, parts[2], Long.parseLong(parts[3]));
+      decoded.toSpecifications();
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Malformed cursor", e);
+    }
+    return decoded;
+  }
+
+  String encode() {
+    String raw = sortField.name() + SEPARATOR + descending + SEPARATOR + value + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Conditions selecting the customers after this position, in the order they have to be read:
+   * first the rest of the customers sharing the cursor's sort key, then those with a later key.
+   */
+  List<Specification<Customer>> toSpecifications() {
+    switch (sortField) {
+      case CREATED_AT:
+        return keysetAfter(LocalDateTime.parse(value));
+      case ORDER_COUNT:
+        return keysetAfter(Integer.valueOf(value));
+      default:
+        return List.of(CustomerSpecifications.idAfter(id, descending));
+    }
+  }
+
+  private <T extends Comparable<? super T>> List<Specification<Customer>> keysetAfter(T key) {
+    String property = sortField.getProperty();
+    return List.of(
+        CustomerSpecifications.sortKeyEqualIdAfter(property, key, id, descending),
+        CustomerSpecifications.sortKeyAfter(property, key, descending));
+  }
+}
@@ -1,27 +1,103 @@
 package com.getirCase.customer_management_service.service.impl;
 
+import com.getirCase.customer_management_service.cache.CustomerCache;
+import com.getirCase.customer_management_service.cache.CustomerKeyCache;
 import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.entity.CustomerTierChange;
+import com.getirCase.customer_management_service.enums.BulkItemStatus;
+import com.getirCase.customer_management_service.enums.CustomerSortField;
 import com.getirCase.customer_management_service.enums.CustomerTier;
 import com.getirCase.customer_management_service.exception.CustomerNotFoundException;
+import com.getirCase.customer_management_service.exception.InvalidRequestException;
 import com.getirCase.customer_management_service.mapper.CustomerMapper;
+import com.getirCase.customer_management_service.model.event.CustomerChangedEvent;
+import com.getirCase.customer_management_service.model.event.CustomerKeysChangedEvent;
+import com.getirCase.customer_management_service.model.event.OrderCountDelta;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.request.CustomerSearchRequest;
+import com.getirCase.customer_management_service.model.request.CustomerUpdateRequest;
+import com.getirCase.customer_management_service.model.response.CustomerBulkItemResponse;
+import com.getirCase.customer_management_service.model.response.CustomerBulkResponse;
+import com.getirCase.customer_management_service.model.response.CustomerPageResponse;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.repository.CustomerNotificationRepository;
 import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.repository.CustomerSpecifications;
+import com.getirCase.customer_management_service.repository.CustomerTierChangeRepository;
 import com.getirCase.customer_management_service.service.CustomerService;
+import com.getirCase.customer_management_service.service.tier.TierPolicy;
+import com.getirCase.customer_management_service.service.tier.TierPolicyProvider;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
 @Service
 public class CustomerServiceImpl implements CustomerService {
   private static final Logger logger = LoggerFactory.getLogger(CustomerServiceImpl.class);
+
   private final CustomerRepository customerRepository;
+  private final CustomerNotificationRepository notificationRepository;
+  private final CustomerTierChangeRepository tierChangeRepository;
+  private final TierPolicyProvider tierPolicyProvider;
+  private final CustomerCache customerCache;
+  private final CustomerKeyCache customerKeyCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
   private final CustomerMapper customerMapper = CustomerMapper.INSTANCE;
 
-  public CustomerServiceImpl(CustomerRepository customerRepository) {
+  public CustomerServiceImpl(
+      CustomerRepository customerRepository,
+      CustomerNotificationRepository notificationRepository,
+      CustomerTierChangeRepository tierChangeRepository,
+      TierPolicyProvider tierPolicyProvider,
+      CustomerCache customerCache,
+      CustomerKeyCache customerKeyCache,
+      ApplicationEventPublisher eventPublisher,
+      Validator validator,
+      PlatformTransactionManager transactionManager) {
     this.customerRepository = customerRepository;
+    this.notificationRepository = notificationRepository;
+    this.tierChangeRepository = tierChangeRepository;
+    this.tierPolicyProvider = tierPolicyProvider;
+    this.customerCache = customerCache;
+    this.customerKeyCache = customerKeyCache;
+    this.eventPublisher = eventPublisher;
+    this.validator = validator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
+  /**
+   * Serves the customer from the {@link CustomerCache}. A miss selects only the response columns
+   * into a {@link CustomerView}; no entity is loaded into the persistence context.
+   */
   @Override
   public CustomerResponse getCustomer(Long customerId) {
     if (customerId == null) {
@@ -29,20 +105,103 @@ public class CustomerServiceImpl implements CustomerService {
       throw new IllegalArgumentException("Customer ID cannot be null");
     }
 
-    Customer customer =
+    Optional<CustomerResponse> cached = customerCache.get(customerId);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    CustomerView customer =
         customerRepository
-            .findById(customerId)
+            .findViewById(customerId)
             .orElseThrow(
                 () -> {
                   logger.warn("Customer not found with ID: {}", customerId);
                   return new CustomerNotFoundException("Customer not found with id: " + customerId);
                 });
 
-    logger.info("Customer found: {}", customer);
-    return customerMapper.toResponse(customer);
+    logger.info("Customer {} found", customerId);
+    CustomerResponse response = customerMapper.toResponse(customer);
+    customerCache.put(customerId, response, customer.getVersion());
+    return response;
+  }
+
+  /**
+   * Resolves the email to an ID through the {@link CustomerKeyCache} and serves the customer from
+   * the {@link CustomerCache}. A cached ID is only trusted if the customer it leads to still has
+   * this email; otherwise the entry is dropped and the email is looked up on its unique index. The
+   * lookups share one read-only transaction, so a configured read replica serves them.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerResponse getCustomerByEmail(String email) {
+    if (!StringUtils.hasText(email)) {
+      throw new IllegalArgumentException("Email cannot be empty");
+    }
+
+    Optional<Long> cachedId = customerKeyCache.getIdByEmail(email);
+    if (cachedId.isPresent()) {
+      Optional<CustomerResponse> cached =
+          findById(cachedId.get()).filter(customer -> email.equals(customer.getEmail()));
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+      customerKeyCache.evictEmail(email, cachedId.get());
+    }
+
+    CustomerView customer =
+        customerRepository
+            .findViewByEmail(email)
+            .orElseThrow(
+                () -> new CustomerNotFoundException("Customer not found with email: " + email));
+    return cacheLoaded(customer);
+  }
+
+  /** Phone number counterpart of {@link #getCustomerByEmail(String)}. */
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerResponse getCustomerByPhoneNumber(String phoneNumber) {
+    if (!StringUtils.hasText(phoneNumber)) {
+      throw new IllegalArgumentException("Phone number cannot be empty");
+    }
+
+    Optional<Long> cachedId = customerKeyCache.getIdByPhoneNumber(phoneNumber);
+    if (cachedId.isPresent()) {
+      Optional<CustomerResponse> cached =
+          findById(cachedId.get())
+              .filter(customer -> phoneNumber.equals(customer.getPhoneNumber()));
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+      customerKeyCache.evictPhoneNumber(phoneNumber, cachedId.get());
+    }
+
+    CustomerView customer =
+        customerRepository
+            .findViewByPhoneNumber(phoneNumber)
+            .orElseThrow(
+                () ->
+                    new CustomerNotFoundException(
+                        "Customer not found with phone number: " + phoneNumber));
+    return cacheLoaded(customer);
+  }
+
+  private Optional<CustomerResponse> findById(Long customerId) {
+    Optional<CustomerResponse> cached = customerCache.get(customerId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    return customerRepository.findViewById(customerId).map(this::cacheLoaded);
+  }
+
+  private CustomerResponse cacheLoaded(CustomerView customer) {
+    CustomerResponse response = customerMapper.toResponse(customer);
+    customerCache.put(customer.getId(), response, customer.getVersion());
+    customerKeyCache.put(customer.getId(), customer.getEmail(), customer.getPhoneNumber());
+    return response;
   }
 
   @Override
+  @Transactional
   public CustomerResponse createCustomer(CustomerRequest request) {
     if (request == null) {
       throw new IllegalArgumentException("Customer data cannot be null");
@@ -54,6 +213,7 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     Customer savedCustomer = customerRepository.save(customer);
+    publishCustomerChanged(savedCustomer);
 
     logger.info(
         "Customer created with ID: {} and Tier: {}",
@@ -63,6 +223,7 @@ public class CustomerServiceImpl implements CustomerService {
   }
 
   @Override
+  @Transactional
   public void deleteCustomer(Long customerId) {
     if (customerId == null) {
       logger.error("Customer ID is null");
@@ -78,12 +239,13 @@ public class CustomerServiceImpl implements CustomerService {
                   return new CustomerNotFoundException("Customer not found with id: " + customerId);
                 });
 
-    customerRepository.updateIsActive(customerId, false);
-    customerRepository.save(customer);
+    customer.setActive(false);
+    publishCustomerChanged(customerRepository.saveAndFlush(customer));
     logger.info("Customer with ID {} has been deleted", customerId);
   }
 
   @Override
+  @Transactional
   public CustomerResponse updateCustomer(Long customerId, CustomerRequest request) {
     if (customerId == null) {
       logger.error("Customer ID is null");
@@ -104,99 +266,559 @@ public class CustomerServiceImpl implements CustomerService {
                   return new CustomerNotFoundException("Customer not found with id: " + customerId);
                 });
 
-    existingCustomer.setName(request.getName());
-    existingCustomer.setSurname(request.getSurname());
-    existingCustomer.setEmail(request.getEmail());
-    existingCustomer.setPhoneNumber(request.getPhoneNumber());
+    applyCustomerData(existingCustomer, request);
 
-    Customer savedCustomer = customerRepository.save(existingCustomer);
+    Customer savedCustomer = customerRepository.saveAndFlush(existingCustomer);
+    publishCustomerChanged(savedCustomer);
 
     logger.info("Customer with ID {} has been updated", customerId);
     return customerMapper.toResponse(savedCustomer);
   }
 
   @Override
+  @Transactional
   public CustomerResponse updateCustomerTier(Long customerId, int orderCount) {
-    try {
-      Customer customer =
-          customerRepository
-              .findById(customerId)
-              .orElseThrow(
-                  () -> new CustomerNotFoundException("Customer not found with id: " + customerId));
-
-      customer.setOrderCount(orderCount);
-
-      customer.setTier(determineCustomerTier(orderCount));
-      customerRepository.save(customer);
-      logger.info("Updated customer {} to tier {}", customerId, customer.getTier());
-      return customerMapper.toResponse(customer);
-    } catch (Exception e) {
-      logger.error("Error updating customer tier for ID {}: {}", customerId, e.getMessage());
-      throw new RuntimeException("Unexpected error occurred while updating customer tier", e);
-    }
-  }
-
-  @Override
-  public CustomerResponse updateOrderCount(Long customerId, int orderCount) {
-
     Customer customer =
         customerRepository
             .findById(customerId)
             .orElseThrow(
-                () ->
-                    new CustomerNotFoundException("Customer with ID " + customerId + " not found"));
+                () -> new CustomerNotFoundException("Customer not found with id: " + customerId));
 
-    int customerOrderCount = customer.getOrderCount();
+    TierPolicy policy = tierPolicyProvider.current();
+    int previousOrderCount = customer.getOrderCount();
+    CustomerTier previousTier = customer.getTier();
+    customer.setOrderCount(orderCount);
 
-    customer.setOrderCount(customerOrderCount + orderCount);
+    customer.setTier(policy.tierFor(orderCount));
+    publishCustomerChanged(customerRepository.saveAndFlush(customer));
+    queueNotificationIfNearPromotion(policy, customer, previousOrderCount);
+    recordTierChange(customer, previousTier);
+    logger.info("Updated customer {} to tier {}", customerId, customer.getTier());
+    return customerMapper.toResponse(customer);
+  }
 
-    CustomerTier tier = determineCustomerTier(customer.getOrderCount());
-    customer.setTier(tier);
+  @Override
+  @Transactional
+  public CustomerResponse updateOrderCount(Long customerId, int orderCount) {
+    Customer customer = incrementOrderCount(customerId, orderCount);
 
     logger.info("update_order_count {} to order count {}", customerId, orderCount);
-    customerRepository.save(customer);
-
-    return CustomerResponse.builder()
-        .name(customer.getName())
-        .surname(customer.getSurname())
-        .email(customer.getEmail())
-        .phoneNumber(customer.getPhoneNumber())
-        .address(customer.getAddress())
-        .orderCount(customer.getOrderCount())
-        .tier(tier)
-        .build();
+    return customerMapper.toResponse(customer);
   }
 
   @Override
+  @Transactional
   public CustomerResponse createOrder(Long customerId) {
     if (customerId == null) {
       logger.error("Customer ID is null");
       throw new IllegalArgumentException("Customer ID cannot be null");
     }
+
+    Customer customer = incrementOrderCount(customerId, 1);
+    logger.info("Order created for customer {}", customerId);
+    return customerMapper.toResponse(customer);
+  }
+
+  /**
+   * Applies every delta with a single UPDATE statement; deltas that reset the order count first
+   * lock the row to read the tier they replace. Rows are locked in ascending customer ID order so
+   * that concurrent batches touching the same customers cannot deadlock.
+   */
+  @Override
+  @Transactional
+  public void applyOrderCountDeltas(Collection<OrderCountDelta> deltas) {
+    TierPolicy policy = tierPolicyProvider.current();
+    List<OrderCountDelta> ordered =
+        deltas.stream().sorted(Comparator.comparing(OrderCountDelta::getCustomerId)).toList();
+
+    for (OrderCountDelta delta : ordered) {
+      Optional<Customer> updated;
+      CustomerTier previousTier = null;
+      if (delta.getOrderCount() != null) {
+        int orderCount = delta.getOrderCount() + delta.getIncrement();
+        previousTier =
+            customerRepository
+                .lockTierById(delta.getCustomerId())
+                .map(CustomerTier::valueOf)
+                .orElse(null);
+        updated =
+            customerRepository.setOrderCount(
+                delta.getCustomerId(), orderCount, policy.tierFor(orderCount).name());
+      } else {
+        updated =
+            customerRepository.incrementOrderCount(
+                delta.getCustomerId(),
+                delta.getIncrement(),
+                policy.minOrders(CustomerTier.GOLD),
+                policy.minOrders(CustomerTier.PLATINUM));
+      }
+
+      if (updated.isPresent()) {
+        Customer customer = updated.get();
+        publishCustomerChanged(customer);
+        if (delta.getOrderCount() == null) {
+          int previousOrderCount = customer.getOrderCount() - delta.getIncrement();
+          queueNotificationIfNearPromotion(policy, customer, previousOrderCount);
+          recordTierChange(customer, policy.tierFor(previousOrderCount));
+        } else {
+          queueNotificationIfNearPromotion(policy, customer, null);
+          recordTierChange(customer, previousTier);
+        }
+      } else {
+        logger.warn(
+            "Skipping order count delta for unknown customer ID: {}", delta.getCustomerId());
+      }
+    }
+
+    logger.info("Applied order count deltas for {} customers", ordered.size());
+  }
+
+  /**
+   * Serves cached customers from the cache and loads all the others with a single {@code WHERE id
+   * IN (...)} query. Results keep the order of {@code customerIds}.
+   */
+  @Override
+  public CustomerBulkResponse getCustomers(List<Long> customerIds) {
+    Map<Long, CustomerResponse> found = new HashMap<>();
+    Set<Long> misses = new LinkedHashSet<>();
+    for (Long customerId : customerIds) {
+      if (customerId != null && !found.containsKey(customerId)) {
+        customerCache
+            .get(customerId)
+            .ifPresentOrElse(cached -> found.put(customerId, cached), () -> misses.add(customerId));
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      for (CustomerView customer : customerRepository.findViewsByIdIn(misses)) {
+        CustomerResponse response = customerMapper.toResponse(customer);
+        customerCache.put(customer.getId(), response, customer.getVersion());
+        found.put(customer.getId(), response);
+      }
+    }
+
+    List<CustomerBulkItemResponse> items = new ArrayList<>(customerIds.size());
+    for (int i = 0; i < customerIds.size(); i++) {
+      Long customerId = customerIds.get(i);
+      if (customerId == null) {
+        items.add(failure(i, null, BulkItemStatus.INVALID, "Customer ID cannot be null"));
+      } else if (found.containsKey(customerId)) {
+        items.add(success(i, customerId, BulkItemStatus.FOUND, found.get(customerId)));
+      } else {
+        items.add(
+            failure(
+                i,
+                customerId,
+                BulkItemStatus.NOT_FOUND,
+                "Customer not found with id: " + customerId));
+      }
+    }
+
+    logger.info("Bulk lookup of {} customers, {} found", customerIds.size(), found.size());
+    return CustomerBulkResponse.of(items);
+  }
+
+  /**
+   * Lists customers matching the request's filters with keyset pagination: each page continues
+   * strictly after the sort key and ID of the previous page's last customer, so deep pages cost the
+   * same as the first one and rows inserted meanwhile are neither skipped nor repeated. A page
+   * after a cursor is read as up to two index ranges, the rest of the cursor's sort key and then
+   * the later keys. One extra row is read to tell whether a next page exists; no count query runs.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerPageResponse searchCustomers(CustomerSearchRequest request) {
+    CustomerSortField sortField;
+    Sort.Direction direction;
+    try {
+      sortField = CustomerSortField.fromProperty(request.getSort());
+      direction = Sort.Direction.fromString(request.getDirection());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(e.getMessage());
+    }
+    boolean descending = direction.isDescending();
+
+    List<Specification<Customer>> filters = new ArrayList<>();
+    if (request.getTier() != null) {
+      filters.add(CustomerSpecifications.hasTier(request.getTier()));
+    }
+    if (request.getActive() != null) {
+      filters.add(CustomerSpecifications.isActive(request.getActive()));
+    }
+    if (StringUtils.hasText(request.getEmailPrefix())) {
+      filters.add(CustomerSpecifications.emailStartsWith(request.getEmailPrefix()));
+    }
+    if (StringUtils.hasText(request.getPhonePrefix())) {
+      filters.add(CustomerSpecifications.phoneNumberStartsWith(request.getPhonePrefix()));
+    }
+    if (StringUtils.hasText(request.getName())) {
+      filters.add(CustomerSpecifications.nameContains(request.getName().trim()));
+    }
+    List<Specification<Customer>> segments = List.of(Specification.allOf(filters));
+    if (request.getCursor() != null) {
+      try {
+        segments =
+            CustomerSearchCursor.decode(request.getCursor(), sortField, descending)
+                .toSpecifications().stream()
+                .map(after -> Specification.allOf(filters).and(after))
+                .toList();
+      } catch (IllegalArgumentException e) {
+        throw new InvalidRequestException(e.getMessage());
+      }
+    }
+
+    Sort sort =
+        sortField == CustomerSortField.ID
+            ? Sort.by(direction, "id")
+            : Sort.by(direction, sortField.getProperty(), "id");
+    int limit = request.getLimit();
+    List<Customer> rows = new ArrayList<>(limit + 1);
+    for (Specification<Customer> segment : segments) {
+      int remaining = limit + 1 - rows.size();
+      if (remaining == 0) {
+        break;
+      }
+      rows.addAll(
+          customerRepository.findBy(
+              segment, query -> query.sortBy(sort).limit(remaining).all()));
+    }
+
+    boolean hasNext = rows.size() > limit;
+    List<Customer> page = hasNext ? rows.subList(0, limit) : rows;
+    String nextCursor =
+        hasNext
+            ? CustomerSearchCursor.after(page.get(limit - 1), sortField, descending).encode()
+            : null;
+    return new CustomerPageResponse(
+        page.stream().map(customerMapper::toSummary).toList(), nextCursor);
+  }
+
+  /**
+   * Validates every request and rejects emails or phone numbers that already exist, checking all of
+   * them with one query, then inserts the remaining customers in one transaction. A rejected item
+   * does not affect the others.
+   *
+   * <p>A customer created concurrently can take an email or phone number after the check; the
+   * unique constraint then fails the whole transaction. The items are then written again one per
+   * transaction, so that only the conflicting ones are reported as duplicates.
+   */
+  @Override
+  public CustomerBulkResponse createCustomers(List<CustomerRequest> requests) {
+    CustomerBulkItemResponse[] items = new CustomerBulkItemResponse[requests.size()];
+    List<Integer> candidates = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      CustomerRequest request = requests.get(i);
+      String violations = request == null ? "Customer data cannot be null" : validate(request);
+      if (violations != null) {
+        items[i] = failure(i, null, BulkItemStatus.INVALID, violations);
+      } else {
+        candidates.add(i);
+      }
+    }
+
+    writeAllOrEach(
+        candidates, items, i -> null, batch -> insertCustomers(requests, batch, items));
+
+    logger.info(
+        "Bulk created {} of {} customers",
+        countStatus(items, BulkItemStatus.CREATED),
+        requests.size());
+    return CustomerBulkResponse.of(Arrays.asList(items));
+  }
+
+  /**
+   * Loads all target customers with one {@code WHERE id IN (...)} query and updates the valid ones
+   * in one transaction. Unknown IDs, invalid data and emails or phone numbers owned by another
+   * customer are reported per item; a conflict with a concurrent write is handled as in {@link
+   * #createCustomers}.
+   */
+  @Override
+  public CustomerBulkResponse updateCustomers(List<CustomerUpdateRequest> requests) {
+    CustomerBulkItemResponse[] items = new CustomerBulkItemResponse[requests.size()];
+    Set<Long> seenIds = new HashSet<>();
+    List<Integer> candidates = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      CustomerUpdateRequest request = requests.get(i);
+      String violations = request == null ? "Customer data cannot be null" : validate(request);
+      if (violations != null) {
+        items[i] = failure(i, null, BulkItemStatus.INVALID, violations);
+      } else if (!seenIds.add(request.getId())) {
+        items[i] =
+            failure(
+                i,
+                request.getId(),
+                BulkItemStatus.DUPLICATE,
+                "Customer ID appears more than once: " + request.getId());
+      } else {
+        candidates.add(i);
+      }
+    }
+
+    writeAllOrEach(
+        candidates,
+        items,
+        i -> requests.get(i).getId(),
+        batch -> updateExisting(requests, batch, items));
+
+    logger.info(
+        "Bulk updated {} of {} customers",
+        countStatus(items, BulkItemStatus.UPDATED),
+        requests.size());
+    return CustomerBulkResponse.of(Arrays.asList(items));
+  }
+
+  /**
+   * Writes all candidates in one transaction. If that violates a unique constraint, writes each
+   * candidate in a transaction of its own and reports those that still conflict as duplicates.
+   */
+  private void writeAllOrEach(
+      List<Integer> candidates,
+      CustomerBulkItemResponse[] items,
+      Function<Integer, Long> customerIdOf,
+      Consumer<List<Integer>> write) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> write.accept(candidates));
+      return;
+    } catch (DataIntegrityViolationException e) {
+      logger.warn(
+          "Bulk write of {} customers conflicted with a concurrent write, retrying them one by one",
+          candidates.size());
+    }
+
+    for (int i : candidates) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> write.accept(List.of(i)));
+      } catch (DataIntegrityViolationException e) {
+        items[i] =
+            failure(
+                i,
+                customerIdOf.apply(i),
+                BulkItemStatus.DUPLICATE,
+                "Customer data conflicts with an existing customer");
+      }
+    }
+  }
+
+  private void insertCustomers(
+      List<CustomerRequest> requests, List<Integer> batch, CustomerBulkItemResponse[] items) {
+    UniqueKeys taken = findTakenKeys(batch.stream().map(requests::get).toList());
+    Map<Integer, Customer> toSave = new LinkedHashMap<>();
+    for (int i : batch) {
+      CustomerRequest request = requests.get(i);
+      String duplicate = taken.claim(request, null);
+      if (duplicate != null) {
+        items[i] = failure(i, null, BulkItemStatus.DUPLICATE, duplicate);
+        continue;
+      }
+
+      Customer customer = customerMapper.toEntity(request);
+      if (customer.getTier() == null) {
+        customer.setTier(CustomerTier.REGULAR);
+      }
+      toSave.put(i, customer);
+    }
+
+    customerRepository.saveAllAndFlush(toSave.values());
+    toSave.forEach(
+        (i, customer) -> {
+          publishCustomerChanged(customer);
+          items[i] =
+              success(
+                  i, customer.getId(), BulkItemStatus.CREATED, customerMapper.toResponse(customer));
+        });
+  }
+
+  private void updateExisting(
+      List<CustomerUpdateRequest> requests, List<Integer> batch, CustomerBulkItemResponse[] items) {
+    Map<Long, Customer> existing = new HashMap<>();
+    customerRepository
+        .findAllById(batch.stream().map(i -> requests.get(i).getId()).toList())
+        .forEach(customer -> existing.put(customer.getId(), customer));
+    UniqueKeys taken =
+        findTakenKeys(batch.stream().map(i -> requests.get(i).getCustomer()).toList());
+
+    Map<Integer, Customer> toSave = new LinkedHashMap<>();
+    for (int i : batch) {
+      Long customerId = requests.get(i).getId();
+      CustomerRequest data = requests.get(i).getCustomer();
+      Customer customer = existing.get(customerId);
+      if (customer == null) {
+        items[i] =
+            failure(
+                i,
+                customerId,
+                BulkItemStatus.NOT_FOUND,
+                "Customer not found with id: " + customerId);
+        continue;
+      }
+
+      String duplicate = taken.claim(data, customerId);
+      if (duplicate != null) {
+        items[i] = failure(i, customerId, BulkItemStatus.DUPLICATE, duplicate);
+        continue;
+      }
+
+      applyCustomerData(customer, data);
+      toSave.put(i, customer);
+    }
+
+    customerRepository.saveAllAndFlush(toSave.values());
+    toSave.forEach(
+        (i, customer) -> {
+          publishCustomerChanged(customer);
+          items[i] =
+              success(
+                  i, customer.getId(), BulkItemStatus.UPDATED, customerMapper.toResponse(customer));
+        });
+  }
+
+  private static long countStatus(CustomerBulkItemResponse[] items, BulkItemStatus status) {
+    return Arrays.stream(items).filter(item -> item.getStatus() == status).count();
+  }
+
+  private String validate(Object request) {
+    Set<ConstraintViolation<Object>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  private UniqueKeys findTakenKeys(List<CustomerRequest> requests) {
+    UniqueKeys keys = new UniqueKeys();
+    if (requests.isEmpty()) {
+      return keys;
+    }
+
+    List<String> emails = requests.stream().map(CustomerRequest::getEmail).toList();
+    List<String> phoneNumbers = requests.stream().map(CustomerRequest::getPhoneNumber).toList();
+    List<Customer> owners = customerRepository.findByEmailInOrPhoneNumberIn(emails, phoneNumbers);
+    for (Customer customer : owners) {
+      keys.emails.put(customer.getEmail(), customer.getId());
+      keys.phoneNumbers.put(customer.getPhoneNumber(), customer.getId());
+    }
+    return keys;
+  }
+
+  private static CustomerBulkItemResponse success(
+      int index, Long customerId, BulkItemStatus status, CustomerResponse customer) {
+    return CustomerBulkItemResponse.builder()
+        .index(index)
+        .id(customerId)
+        .status(status)
+        .customer(customer)
+        .build();
+  }
+
+  private static CustomerBulkItemResponse failure(
+      int index, Long customerId, BulkItemStatus status, String message) {
+    return CustomerBulkItemResponse.builder()
+        .index(index)
+        .id(customerId)
+        .status(status)
+        .message(message)
+        .build();
+  }
+
+  private Customer incrementOrderCount(Long customerId, int delta) {
+    TierPolicy policy = tierPolicyProvider.current();
     Customer customer =
         customerRepository
-            .findById(customerId)
+            .incrementOrderCount(
+                customerId,
+                delta,
+                policy.minOrders(CustomerTier.GOLD),
+                policy.minOrders(CustomerTier.PLATINUM))
             .orElseThrow(
                 () -> {
                   logger.warn("Customer not found with ID: {}", customerId);
-                  return new CustomerNotFoundException("Customer not found with id: " + customerId);
+                  return new CustomerNotFoundException(
+                      "Customer not found with id: " + customerId);
                 });
+    int previousOrderCount = customer.getOrderCount() - delta;
+    publishCustomerChanged(customer);
+    queueNotificationIfNearPromotion(policy, customer, previousOrderCount);
+    recordTierChange(customer, policy.tierFor(previousOrderCount));
+    return customer;
+  }
 
-    int orderCount = customer.getOrderCount() + 1;
-    customer.setOrderCount(orderCount);
-    customer.setTier(determineCustomerTier(orderCount));
-    customerRepository.save(customer);
-    logger.info("Order created for customer {}", customerId);
-    return customerMapper.toResponse(customer);
+  /**
+   * Queues a notification in the outbox when the order count has just moved onto one of the
+   * notification counts. {@code previousOrderCount} is null when the count was overwritten without
+   * reading it first; the outbox then drops the row if the same notification is still pending.
+   */
+  private void queueNotificationIfNearPromotion(
+      TierPolicy policy, Customer customer, Integer previousOrderCount) {
+    int orderCount = customer.getOrderCount();
+    if (policy.isNotificationOrderCount(orderCount)
+        && (previousOrderCount == null || previousOrderCount != orderCount)) {
+      notificationRepository.enqueue(customer.getId(), orderCount);
+    }
   }
 
-  private CustomerTier determineCustomerTier(int orderCount) {
-    if (orderCount >= 20) {
-      return CustomerTier.PLATINUM;
-    } else if (orderCount >= 10) {
-      return CustomerTier.GOLD;
-    } else {
-      return CustomerTier.REGULAR;
+  /**
+   * Writes the tier change to the outbox, in the transaction that made it. Where the row is updated
+   * in place, {@code previousTier} is derived from the previous order count, which is the tier
+   * those updates would have stored.
+   */
+  private void recordTierChange(Customer customer, CustomerTier previousTier) {
+    if (customer.getTier() != previousTier) {
+      tierChangeRepository.save(
+          new CustomerTierChange(
+              customer.getId(), previousTier, customer.getTier(), customer.getOrderCount()));
+    }
+  }
+
+  /**
+   * Copies the editable fields onto the customer. When the email or phone number changes, the old
+   * values are evicted from the {@link CustomerKeyCache} once the transaction commits.
+   */
+  private void applyCustomerData(Customer customer, CustomerRequest data) {
+    if (!Objects.equals(customer.getEmail(), data.getEmail())
+        || !Objects.equals(customer.getPhoneNumber(), data.getPhoneNumber())) {
+      eventPublisher.publishEvent(
+          new CustomerKeysChangedEvent(
+              customer.getId(), customer.getEmail(), customer.getPhoneNumber()));
+    }
+    customer.setName(data.getName());
+    customer.setSurname(data.getSurname());
+    customer.setEmail(data.getEmail());
+    customer.setPhoneNumber(data.getPhoneNumber());
+  }
+
+  private void publishCustomerChanged(Customer customer) {
+    eventPublisher.publishEvent(new CustomerChangedEvent(customer.getId(), customer.getVersion()));
+  }
+
+  /**
+   * Emails and phone numbers already owned by a customer, either in the database or by an earlier
+   * item of the same bulk request. Owners created by the request itself have no ID yet.
+   */
+  private static final class UniqueKeys {
+    private final Map<String, Long> emails = new HashMap<>();
+    private final Map<String, Long> phoneNumbers = new HashMap<>();
+
+    /**
+     * Reserves the request's email and phone number for {@code ownerId}, or returns why it cannot
+     * when another customer already owns one of them.
+     */
+    String claim(CustomerRequest request, Long ownerId) {
+      if (isTakenByOther(emails, request.getEmail(), ownerId)) {
+        return "Email already exists: " + request.getEmail();
+      }
+      if (isTakenByOther(phoneNumbers, request.getPhoneNumber(), ownerId)) {
+        return "Phone number already exists: " + request.getPhoneNumber();
+      }
+      emails.put(request.getEmail(), ownerId);
+      phoneNumbers.put(request.getPhoneNumber(), ownerId);
+      return null;
+    }
+
+    private static boolean isTakenByOther(Map<String, Long> owners, String key, Long ownerId) {
+      return owners.containsKey(key) && (ownerId == null || !ownerId.equals(owners.get(key)));
     }
   }
 }
@@ -0,0 +1,178 @@
+package com.getirCase.customer_management_service.service.tier;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.enums.RetieringState;
+import com.getirCase.customer_management_service.model.event.CustomerChangedEvent;
+import com.getirCase.customer_management_service.model.response.RetieringStatusResponse;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.repository.CustomerRepository.CustomerVersion;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reapplies the current tier policy to every customer in the background. Customers are walked in
+ * ID ranges of {@code customer.tiers.retiering.chunk-size}; each range is re-tiered by a single
+ * set-based UPDATE in its own transaction, which also writes the tier changes to the outbox and
+ * invalidates the cached customers. Only one run can be active per instance.
+ *
+ * <p>Start the run once the new policy has reached every instance (see {@link
+ * TierPolicyProvider}); until then an instance still on the old policy may re-tier a customer it
+ * updates with the old thresholds.
+ */
+@Component
+public class CustomerRetieringJob {
+
+  private static final Logger logger = LoggerFactory.getLogger(CustomerRetieringJob.class);
+  private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final CustomerRepository customerRepository;
+  private final TierPolicyProvider tierPolicyProvider;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final SimpleAsyncTaskExecutor executor =
+      new SimpleAsyncTaskExecutor("customer-retiering-");
+  private final int chunkSize;
+
+  private volatile RetieringStatusResponse status =
+      RetieringStatusResponse.builder().state(RetieringState.IDLE).build();
+  private volatile boolean stopRequested;
+
+  public CustomerRetieringJob(
+      CustomerRepository customerRepository,
+      TierPolicyProvider tierPolicyProvider,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${customer.tiers.retiering.chunk-size:5000}") int chunkSize) {
+    this.customerRepository = customerRepository;
+    this.tierPolicyProvider = tierPolicyProvider;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Starts a run with the current policy unless one is already running.
+   *
+   * @return {@code false} if a run is already in progress
+   */
+  public synchronized boolean start() {
+    if (status.getState() == RetieringState.RUNNING) {
+      return false;
+    }
+
+    TierPolicy policy = tierPolicyProvider.current();
+    status =
+        RetieringStatusResponse.builder()
+            .state(RetieringState.RUNNING)
+            .policy(policy.toMap())
+            .startedAt(LocalDateTime.now())
+            .build();
+    executor.execute(() -> run(policy));
+    return true;
+  }
+
+  public RetieringStatusResponse status() {
+    return status;
+  }
+
+  @PreDestroy
+  void stop() {
+    stopRequested = true;
+  }
+
+  void run(TierPolicy policy) {
+    int goldThreshold = policy.minOrders(CustomerTier.GOLD);
+    int platinumThreshold = policy.minOrders(CustomerTier.PLATINUM);
+    long startNanos = System.nanoTime();
+    long lastLogNanos = startNanos;
+    long afterId = 0;
+    long updated = 0;
+    long maxId = 0;
+
+    try {
+      maxId = customerRepository.findMaxId();
+      logger.info("Re-tiering customers up to ID {} with {}", maxId, policy);
+
+      while (afterId < maxId && !stopRequested) {
+        long upToId = Math.min(afterId + chunkSize, maxId);
+        updated += retierRange(afterId, upToId, goldThreshold, platinumThreshold);
+        afterId = upToId;
+
+        long now = System.nanoTime();
+        status = progress(RetieringState.RUNNING, afterId, maxId, updated, now - startNanos);
+        if (now - lastLogNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+          logProgress(status);
+          lastLogNanos = now;
+        }
+      }
+
+      RetieringStatusResponse finished =
+          progress(
+              stopRequested ? RetieringState.FAILED : RetieringState.COMPLETED,
+              afterId,
+              maxId,
+              updated,
+              System.nanoTime() - startNanos);
+      finished.setFinishedAt(LocalDateTime.now());
+      if (stopRequested) {
+        finished.setError("Stopped by shutdown");
+      }
+      status = finished;
+      logProgress(finished);
+    } catch (RuntimeException e) {
+      logger.error("Re-tiering failed after customer ID {}", afterId, e);
+      RetieringStatusResponse failed =
+          progress(RetieringState.FAILED, afterId, maxId, updated, System.nanoTime() - startNanos);
+      failed.setFinishedAt(LocalDateTime.now());
+      failed.setError(e.getMessage());
+      status = failed;
+    }
+  }
+
+  private int retierRange(long afterId, long upToId, int goldThreshold, int platinumThreshold) {
+    return transactionTemplate.execute(
+        tx -> {
+          List<CustomerVersion> changed =
+              customerRepository.retierRange(afterId, upToId, goldThreshold, platinumThreshold);
+          for (CustomerVersion customer : changed) {
+            eventPublisher.publishEvent(
+                new CustomerChangedEvent(customer.getId(), customer.getVersion()));
+          }
+          return changed.size();
+        });
+  }
+
+  private RetieringStatusResponse progress(
+      RetieringState state, long afterId, long maxId, long updated, long elapsedNanos) {
+    double seconds = Math.max(elapsedNanos, 1) / 1e9;
+    return RetieringStatusResponse.builder()
+        .state(state)
+        .policy(status.getPolicy())
+        .processedUpToId(afterId)
+        .maxId(maxId)
+        .percentComplete(maxId == 0 ? 100.0 : afterId * 100.0 / maxId)
+        .updatedRows(updated)
+        .rowsPerSecond(updated / seconds)
+        .startedAt(status.getStartedAt())
+        .build();
+  }
+
+  private static void logProgress(RetieringStatusResponse progress) {
+    logger.info(
+        "Re-tiering {}: {}% of customer IDs, {} customers updated, {} rows/s",
+        progress.getState(),
+        String.format("%.1f", progress.getPercentComplete()),
+        progress.getUpdatedRows(),
+        String.format("%.0f", progress.getRowsPerSecond()));
+  }
+}
@@ -0,0 +1,100 @@
+package com.getirCase.customer_management_service.service.tier;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable order count thresholds of the customer tiers. The thresholds are compiled into sorted
+ * {@code int} arrays, so looking up a tier or a notification count is a binary search that does
+ * not allocate.
+ *
+ * <p>{@link CustomerTier#REGULAR} must start at 0 orders and every higher tier must need more
+ * orders than the one below it.
+ */
+public final class TierPolicy {
+
+  private static final CustomerTier[] TIERS = CustomerTier.values();
+
+  /** Minimum order count of each tier, indexed by {@link CustomerTier#ordinal()}. */
+  private final int[] minOrders;
+
+  /** Order counts one short of a tier, at which the customer gets a promotion notification. */
+  private final int[] notificationOrderCounts;
+
+  private TierPolicy(int[] minOrders) {
+    this.minOrders = minOrders;
+    this.notificationOrderCounts = new int[minOrders.length - 1];
+    for (int i = 1; i < minOrders.length; i++) {
+      notificationOrderCounts[i - 1] = minOrders[i] - 1;
+    }
+  }
+
+  /**
+   * Builds a policy from the minimum order count of every tier.
+   *
+   * @throws IllegalArgumentException if a tier is missing or the thresholds do not ascend from 0
+   */
+  public static TierPolicy of(Map<CustomerTier, Integer> minOrdersByTier) {
+    int[] minOrders = new int[TIERS.length];
+    for (CustomerTier tier : TIERS) {
+      Integer threshold = minOrdersByTier.get(tier);
+      if (threshold == null) {
+        throw new IllegalArgumentException("Missing minimum order count for tier " + tier);
+      }
+      minOrders[tier.ordinal()] = threshold;
+    }
+
+    if (minOrders[0] != 0) {
+      throw new IllegalArgumentException(TIERS[0] + " tier must start at 0 orders");
+    }
+    for (int i = 1; i < minOrders.length; i++) {
+      if (minOrders[i] <= minOrders[i - 1]) {
+        throw new IllegalArgumentException(
+            TIERS[i] + " tier must need more orders than " + TIERS[i - 1]);
+      }
+    }
+    return new TierPolicy(minOrders);
+  }
+
+  public CustomerTier tierFor(int orderCount) {
+    int index = Arrays.binarySearch(minOrders, orderCount);
+    if (index < 0) {
+      index = Math.max(0, -index - 2);
+    }
+    return TIERS[index];
+  }
+
+  public int minOrders(CustomerTier tier) {
+    return minOrders[tier.ordinal()];
+  }
+
+  /** Whether a customer with {@code orderCount} orders is one order away from the next tier. */
+  public boolean isNotificationOrderCount(int orderCount) {
+    return Arrays.binarySearch(notificationOrderCounts, orderCount) >= 0;
+  }
+
+  public Map<CustomerTier, Integer> toMap() {
+    Map<CustomerTier, Integer> map = new EnumMap<>(CustomerTier.class);
+    for (CustomerTier tier : TIERS) {
+      map.put(tier, minOrders[tier.ordinal()]);
+    }
+    return map;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof TierPolicy other && Arrays.equals(minOrders, other.minOrders);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(minOrders);
+  }
+
+  @Override
+  public String toString() {
+    return "TierPolicy" + toMap();
+  }
+}
@@ -0,0 +1,92 @@
+package com.getirCase.customer_management_service.service.tier;
+
+import com.getirCase.customer_management_service.entity.TierThreshold;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.repository.TierThresholdRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the tier policy in effect. The policy lives in the {@code tier_threshold} table so that
+ * every instance applies the same one; the {@code customer.tiers.*.min-orders} properties only seed
+ * the table when a tier has no threshold yet. Each instance reloads the table every {@code
+ * customer.tiers.refresh-interval} milliseconds, so a policy changed through {@link
+ * #update(TierPolicy)} on one instance reaches the others without a restart.
+ */
+@Component
+public class TierPolicyProvider {
+
+  private static final Logger logger = LoggerFactory.getLogger(TierPolicyProvider.class);
+
+  private final TierThresholdRepository thresholdRepository;
+  private final TierPolicy configuredPolicy;
+  private volatile TierPolicy policy;
+
+  public TierPolicyProvider(
+      TierThresholdRepository thresholdRepository,
+      @Value("${customer.tiers.gold.min-orders:10}") int goldMinOrders,
+      @Value("${customer.tiers.platinum.min-orders:20}") int platinumMinOrders) {
+    this.thresholdRepository = thresholdRepository;
+    this.configuredPolicy =
+        TierPolicy.of(
+            Map.of(
+                CustomerTier.REGULAR, 0,
+                CustomerTier.GOLD, goldMinOrders,
+                CustomerTier.PLATINUM, platinumMinOrders));
+    this.policy = configuredPolicy;
+  }
+
+  @PostConstruct
+  void load() {
+    configuredPolicy
+        .toMap()
+        .forEach((tier, minOrders) -> thresholdRepository.seed(tier.name(), minOrders));
+    refresh();
+  }
+
+  /** The policy to apply. Callers should read it once per operation and use that instance. */
+  public TierPolicy current() {
+    return policy;
+  }
+
+  @Scheduled(fixedDelayString = "${customer.tiers.refresh-interval:30000}")
+  public void refresh() {
+    Map<CustomerTier, Integer> stored = new EnumMap<>(CustomerTier.class);
+    for (TierThreshold threshold : thresholdRepository.findAll()) {
+      stored.put(threshold.getTier(), threshold.getMinOrders());
+    }
+
+    TierPolicy loaded;
+    try {
+      loaded = TierPolicy.of(stored);
+    } catch (IllegalArgumentException e) {
+      logger.error("Ignoring invalid stored tier policy {}: {}", stored, e.getMessage());
+      return;
+    }
+    swap(loaded);
+  }
+
+  /** Stores {@code newPolicy} for all instances and applies it on this one immediately. */
+  public void update(TierPolicy newPolicy) {
+    List<TierThreshold> thresholds =
+        newPolicy.toMap().entrySet().stream()
+            .map(entry -> new TierThreshold(entry.getKey(), entry.getValue()))
+            .toList();
+    thresholdRepository.saveAll(thresholds);
+    swap(newPolicy);
+  }
+
+  private synchronized void swap(TierPolicy newPolicy) {
+    if (!newPolicy.equals(policy)) {
+      logger.info("Tier policy changed from {} to {}", policy, newPolicy);
+      policy = newPolicy;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.CustomerManagementServiceApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application against an embedded PostgreSQL instance for benchmarks. Unless {@code
+ * spring.kafka.listener.auto-startup} is overridden, Kafka listeners are not started, so no broker
+ * is needed.
+ */
+final class BenchmarkEnvironment implements AutoCloseable {
+
+  private final EmbeddedPostgres postgres;
+  private final ConfigurableApplicationContext context;
+
+  private BenchmarkEnvironment(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+    this.postgres = postgres;
+    this.context = context;
+  }
+
+  /**
+   * Starts the application with the given {@code key=value} overrides, each replacing the default
+   * of the same key. They are passed as command-line arguments, which take precedence over {@code
+   * application.yml}; properties set on the builder would not. A key is passed only once, since
+   * Spring joins repeated arguments into one comma-separated value.
+   */
+  static BenchmarkEnvironment start(String... properties) throws IOException {
+    EmbeddedPostgres postgres = EmbeddedPostgres.start();
+    Map<String, String> args = new LinkedHashMap<>();
+    args.put(
+        "spring.datasource.url",
+        postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+    args.put("spring.datasource.username", "postgres");
+    args.put("spring.datasource.password", "postgres");
+    args.put("spring.jpa.show-sql", "false");
+    args.put("spring.kafka.listener.auto-startup", "false");
+    args.put("server.port", "0");
+    args.put("logging.level.root", "WARN");
+    for (String property : properties) {
+      int separator = property.indexOf('=');
+      args.put(property.substring(0, separator), property.substring(separator + 1));
+    }
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(CustomerManagementServiceApplication.class)
+            .run(
+                args.entrySet().stream()
+                    .map(arg -> "--" + arg.getKey() + "=" + arg.getValue())
+                    .toArray(String[]::new));
+    return new BenchmarkEnvironment(postgres, context);
+  }
+
+  <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  int port() {
+    return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+  }
+
+  JdbcTemplate jdbcTemplate() {
+    return new JdbcTemplate(postgres.getPostgresDatabase());
+  }
+
+  /**
+   * Inserts {@code count} customers with IDs starting at 1, order counts between 0 and 29 and one
+   * creation second per customer.
+   */
+  void seedCustomers(int count) {
+    JdbcTemplate jdbcTemplate = jdbcTemplate();
+    jdbcTemplate.update(
+        """
+        INSERT INTO customer
+            (id, name, surname, email, phone_number, tier, order_count, address, created_at)
+        SELECT g, 'name' || g, 'surname' || g, 'customer' || g || '@example.com',
+               '5' || lpad(g::text, 9, '0'), 'REGULAR', g % 30, 'address ' || g,
+               timestamp '2024-01-01' + g * interval '1 second'
+        FROM generate_series(1, ?) g
+        """,
+        count);
+    jdbcTemplate.execute(
+        "SELECT setval('customer_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM customer), false)");
+  }
+
+  /** Removes all customers, their notifications and the processed event IDs. */
+  void clearCustomers() {
+    jdbcTemplate().execute("TRUNCATE customer_notification, customer, processed_event");
+  }
+
+  @Override
+  public void close() throws IOException {
+    context.close();
+    postgres.close();
+  }
+}
@@ -0,0 +1,74 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency distribution (including p99) of {@code GET /api/customers/{id}} over HTTP with the
+ * customer cache enabled and disabled. Reads are spread over {@code hotCustomers} IDs.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class CustomerCacheBenchmark {
+
+  private static final int CUSTOMERS = 100_000;
+
+  @Param({"caffeine", "none"})
+  private String cacheType;
+
+  @Param({"1000"})
+  private int hotCustomers;
+
+  private BenchmarkEnvironment environment;
+  private HttpClient httpClient;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start("spring.cache.type=" + cacheType);
+    environment.seedCustomers(CUSTOMERS);
+    httpClient = HttpClient.newHttpClient();
+    baseUrl = "http://localhost:" + environment.port() + "/api/customers/";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public int getCustomer() throws IOException, InterruptedException {
+    long customerId = ThreadLocalRandom.current().nextInt(hotCustomers) + 1;
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + customerId)).GET().build();
+    HttpResponse<byte[]> response =
+        httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode());
+    }
+    return response.body().length;
+  }
+}
@@ -0,0 +1,67 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.getirCase.customer_management_service.consumer.CustomerEventDecoder;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Messages per second for decoding one {@code customer.events} message with the former tree based
+ * path ({@code readTree} + {@code treeToValue}), direct data binding and the streaming {@link
+ * CustomerEventDecoder}. Bytes allocated per message are reported by the GC profiler as {@code
+ * gc.alloc.rate.norm}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerEventDecodingBenchmark {
+
+  private static final String MESSAGE =
+      "{\"eventType\":\"CUSTOMER_ORDER_CREATED_EVENT\",\"customerId\":123456,\"orderCount\":9,"
+          + "\"timestamp\":\"2025-02-01T10:15:30\",\"data\":{\"orderId\":\"ord-98765\","
+          + "\"items\":[{\"sku\":\"A-1\",\"quantity\":2,\"price\":12.5},"
+          + "{\"sku\":\"B-7\",\"quantity\":1,\"price\":3.75}],"
+          + "\"address\":{\"city\":\"Istanbul\",\"district\":\"Kadikoy\"}}}";
+
+  private ObjectMapper objectMapper;
+  private CustomerEventDecoder decoder;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    decoder = new CustomerEventDecoder(objectMapper);
+  }
+
+  @Benchmark
+  public CustomerEvent treeToValue() throws IOException {
+    JsonNode jsonNode = objectMapper.readTree(MESSAGE);
+    jsonNode.get("eventType").asText();
+    return objectMapper.treeToValue(jsonNode, CustomerEvent.class);
+  }
+
+  @Benchmark
+  public CustomerEvent readValue() throws IOException {
+    return objectMapper.readValue(MESSAGE, CustomerEvent.class);
+  }
+
+  @Benchmark
+  public CustomerEvent streaming() throws IOException {
+    return decoder.decode(MESSAGE);
+  }
+}
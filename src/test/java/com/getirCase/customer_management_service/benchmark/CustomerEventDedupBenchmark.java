@@ -0,0 +1,83 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-event latency of {@link CustomerEventHandler#handleCustomerEvent} for order created events.
+ * {@code none} sends events without an ID, as before deduplication; {@code new} gives every event a
+ * fresh ID, which adds one insert into {@code processed_event} to the transaction; {@code
+ * duplicate} redelivers one processed ID, which the in-memory window rejects without a query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerEventDedupBenchmark {
+
+  private static final int CUSTOMERS = 10_000;
+
+  @Param({"none", "new", "duplicate"})
+  private String eventId;
+
+  private BenchmarkEnvironment environment;
+  private CustomerEventHandler eventHandler;
+  private UUID processedEventId;
+  private long nextCustomerId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start();
+    environment.seedCustomers(CUSTOMERS);
+    eventHandler = environment.getBean(CustomerEventHandler.class);
+
+    processedEventId = UUID.randomUUID();
+    eventHandler.handleCustomerEvent(orderCreated(processedEventId));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public void handleOrderCreated() {
+    switch (eventId) {
+      case "new":
+        eventHandler.handleCustomerEvent(orderCreated(UUID.randomUUID()));
+        break;
+      case "duplicate":
+        eventHandler.handleCustomerEvent(orderCreated(processedEventId));
+        break;
+      default:
+        eventHandler.handleCustomerEvent(orderCreated(null));
+    }
+  }
+
+  private CustomerEvent orderCreated(UUID id) {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventId(id);
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(nextCustomerId++ % CUSTOMERS + 1);
+    return event;
+  }
+}
@@ -0,0 +1,83 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.consumer.CustomerEventMetrics;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of timing one handled event with {@link CustomerEventMetrics#recordEvent}, shared by four
+ * listener threads: against a registry with no backend ({@code noop}), the Prometheus registry
+ * ({@code prometheus}) and the Prometheus registry with percentile histograms ({@code
+ * histogram}). The difference to {@code noop} is the overhead per event on the consumer path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerEventMetricsBenchmark {
+
+  private static final String EVENT_TYPE = KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name();
+
+  @Param({"noop", "prometheus", "histogram"})
+  private String registry;
+
+  private CustomerEventMetrics metrics;
+
+  @Setup
+  public void setUp() {
+    MeterRegistry meterRegistry;
+    switch (registry) {
+      case "noop":
+        meterRegistry = new CompositeMeterRegistry();
+        break;
+      case "prometheus":
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        break;
+      default:
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(percentilesHistogram());
+        break;
+    }
+    metrics = new CustomerEventMetrics(meterRegistry);
+  }
+
+  @Benchmark
+  public void recordEvent() {
+    metrics.recordEvent(EVENT_TYPE, System.nanoTime(), true);
+  }
+
+  private static MeterFilter percentilesHistogram() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(
+          Meter.Id id, DistributionStatisticConfig config) {
+        return DistributionStatisticConfig.builder()
+            .percentilesHistogram(true)
+            .build()
+            .merge(config);
+      }
+    };
+  }
+}
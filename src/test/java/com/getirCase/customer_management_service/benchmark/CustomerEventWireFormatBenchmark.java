@@ -0,0 +1,103 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.serialization.CustomerEventDeserializer;
+import com.getirCase.customer_management_service.serialization.CustomerEventSerializer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decode throughput of {@link CustomerEventDeserializer} for the same event as a JSON payload and
+ * as a binary payload, with and without a {@code data} object. The payload size is the secondary
+ * result {@code payloadBytes}; bytes allocated per message are in the GC profiler output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerEventWireFormatBenchmark {
+
+  @Param({"json", "binary"})
+  private String format;
+
+  @Param({"false", "true"})
+  private boolean withData;
+
+  private CustomerEventDeserializer deserializer;
+  private Headers headers;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    CustomerEventSerializer serializer = new CustomerEventSerializer(objectMapper);
+    deserializer = new CustomerEventDeserializer(objectMapper);
+
+    CustomerEvent event = new CustomerEvent();
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(123_456L);
+    event.setOrderCount(9);
+    event.setTimestamp(LocalDateTime.of(2025, 2, 1, 10, 15, 30));
+    if (withData) {
+      event.setData(
+          Map.of(
+              "orderId", "ord-98765",
+              "items", List.of(Map.of("sku", "A-1", "quantity", 2), Map.of("sku", "B-7"))));
+    }
+
+    headers = new RecordHeaders();
+    if ("binary".equals(format)) {
+      payload = serializer.serialize("customer.events", headers, event);
+    } else {
+      headers.add(
+          EventHeaders.CONTENT_TYPE,
+          EventHeaders.JSON_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+      payload = serializer.serialize("customer.events", event);
+    }
+  }
+
+  @Benchmark
+  public CustomerEvent deserialize(PayloadSize payloadSize) {
+    return deserializer.deserialize("customer.events", headers, payload);
+  }
+
+  /** Reports the size of the decoded payload next to the throughput. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadSize {
+
+    private int bytes;
+
+    @Setup(Level.Iteration)
+    public void setUp(CustomerEventWireFormatBenchmark benchmark) {
+      bytes = benchmark.payload.length;
+    }
+
+    public int payloadBytes() {
+      return bytes;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts 100k customers through {@link CustomerRepository#saveAll} in chunks of {@code chunkSize}
+ * and reports rows per second. {@code jdbcBatchSize=1} sends one INSERT round trip per row, like
+ * the former IDENTITY mapping did; {@code 50} uses the pooled sequence with JDBC batching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(CustomerInsertBenchmark.ROWS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerInsertBenchmark {
+
+  static final int ROWS = 100_000;
+
+  @Param({"1", "50"})
+  private int jdbcBatchSize;
+
+  @Param({"1000"})
+  private int chunkSize;
+
+  private BenchmarkEnvironment environment;
+  private CustomerRepository customerRepository;
+  private List<Customer> customers;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment =
+        BenchmarkEnvironment.start(
+            "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+    Object batchSize =
+        environment
+            .getBean(EntityManagerFactory.class)
+            .getProperties()
+            .get(AvailableSettings.STATEMENT_BATCH_SIZE);
+    if (!String.valueOf(jdbcBatchSize).equals(String.valueOf(batchSize))) {
+      throw new IllegalStateException(
+          "Expected JDBC batch size " + jdbcBatchSize + " but Hibernate uses " + batchSize);
+    }
+    customerRepository = environment.getBean(CustomerRepository.class);
+  }
+
+  @Setup(Level.Invocation)
+  public void prepareCustomers() {
+    environment.clearCustomers();
+    customers = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      Customer customer = new Customer();
+      customer.setName("name" + i);
+      customer.setSurname("surname" + i);
+      customer.setEmail("customer" + i + "@example.com");
+      customer.setPhoneNumber(String.format("5%09d", i));
+      customer.setAddress("address " + i);
+      customers.add(customer);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public int saveAll() {
+    int saved = 0;
+    for (int from = 0; from < ROWS; from += chunkSize) {
+      List<Customer> chunk = customers.subList(from, Math.min(from + chunkSize, ROWS));
+      saved += customerRepository.saveAll(chunk).size();
+    }
+    return saved;
+  }
+}
@@ -0,0 +1,450 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Load test of the whole service: the application runs with its Kafka listeners against an
+ * embedded Kafka broker and an embedded PostgreSQL instance, and {@code concurrency} clients each
+ * pick their next operation at random, weighted by {@code mix}:
+ *
+ * <ul>
+ *   <li>{@code read}: {@code GET /api/customers/{id}} of a random seeded customer;
+ *   <li>{@code event}: a burst of {@code burst-size} {@code CUSTOMER_ORDER_CREATED_EVENT}s for
+ *       random customers, timed until the broker has acknowledged all of them;
+ *   <li>{@code create}: {@code POST /api/customers/bulk} with {@code bulk-size} new customers.
+ * </ul>
+ *
+ * <p>After a warmup whose results are discarded, the run lasts {@code duration}. The report gives,
+ * per operation, the count, throughput, error rate and p50/p95/p99/max latency in milliseconds,
+ * and how many of the sent events the listener had processed within a minute of the end. It is
+ * printed and written as JSON to {@code report}. The run fails if events were sent but none was
+ * processed.
+ *
+ * <p>Run with {@code mvn -Pload-test test -DskipTests}; see the {@code load-test} profile in the
+ * POM for the settings. Each is passed as a {@code name=value} argument.
+ */
+public final class CustomerLoadRunner {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final Settings settings;
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+  private final String baseUrl;
+  private final KafkaProducer<String, String> producer;
+  private final AtomicLong createdCustomers = new AtomicLong();
+  private final AtomicLong sentEvents = new AtomicLong();
+
+  private CustomerLoadRunner(
+      Settings settings, String baseUrl, KafkaProducer<String, String> producer) {
+    this.settings = settings;
+    this.baseUrl = baseUrl;
+    this.producer = producer;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Settings settings = Settings.parse(args);
+    EmbeddedKafkaBroker kafka =
+        new EmbeddedKafkaKraftBroker(1, 3, KafkaTopics.CUSTOMER_EVENTS.getTopicName());
+    kafka.afterPropertiesSet();
+    try (BenchmarkEnvironment environment =
+            BenchmarkEnvironment.start(
+                "spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "spring.kafka.listener.auto-startup=true",
+                "spring.kafka.listener.concurrency=3");
+        KafkaProducer<String, String> producer = newProducer(kafka.getBrokersAsString())) {
+      environment.seedCustomers(settings.customers);
+      CustomerLoadRunner runner =
+          new CustomerLoadRunner(
+              settings, "http://localhost:" + environment.port() + "/api/customers", producer);
+
+      System.out.println("Warming up for " + settings.warmup);
+      runner.run(settings.warmup);
+      awaitProcessedEvents(environment, 0, runner.sentEvents);
+      long eventsBefore = processedEvents(environment);
+      runner.sentEvents.set(0);
+
+      System.out.println("Running " + settings.mix + " for " + settings.duration);
+      Map<Operation, Stats> results = runner.run(settings.duration);
+      long eventsProcessed = awaitProcessedEvents(environment, eventsBefore, runner.sentEvents);
+
+      Map<String, Object> report = runner.report(results, eventsProcessed);
+      String json = OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+      System.out.println(json);
+      File reportFile = new File(settings.report);
+      if (reportFile.getParentFile() != null) {
+        reportFile.getParentFile().mkdirs();
+      }
+      OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+      if (runner.sentEvents.get() > 0 && eventsProcessed == 0) {
+        throw new IllegalStateException("No event was processed; are the Kafka listeners running?");
+      }
+    } finally {
+      kafka.destroy();
+    }
+  }
+
+  /** Runs the mix with {@code concurrency} clients for {@code duration}. */
+  private Map<Operation, Stats> run(Duration duration) throws Exception {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService clients = Executors.newFixedThreadPool(settings.concurrency);
+    try {
+      List<Future<Map<Operation, Stats>>> futures = new ArrayList<>();
+      for (int i = 0; i < settings.concurrency; i++) {
+        futures.add(clients.submit(() -> runClient(deadline)));
+      }
+      Map<Operation, Stats> merged = new EnumMap<>(Operation.class);
+      for (Future<Map<Operation, Stats>> future : futures) {
+        future.get().forEach((operation, stats) -> merged.merge(operation, stats, Stats::merge));
+      }
+      return merged;
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private Map<Operation, Stats> runClient(long deadline) {
+    Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    while (System.nanoTime() < deadline) {
+      Operation operation = settings.pickOperation();
+      long startNanos = System.nanoTime();
+      boolean success;
+      try {
+        success = execute(operation);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        success = false;
+      }
+      stats
+          .computeIfAbsent(operation, key -> new Stats())
+          .record(System.nanoTime() - startNanos, success);
+    }
+    return stats;
+  }
+
+  private boolean execute(Operation operation) throws Exception {
+    switch (operation) {
+      case READ:
+        return read();
+      case EVENT:
+        return sendEventBurst();
+      case CREATE:
+        return createCustomers();
+      default:
+        throw new IllegalStateException("Unknown operation: " + operation);
+    }
+  }
+
+  private boolean read() throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(baseUrl + "/" + randomCustomerId())).GET().build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+  }
+
+  private boolean sendEventBurst() throws Exception {
+    List<Future<RecordMetadata>> acks = new ArrayList<>(settings.burstSize);
+    for (int i = 0; i < settings.burstSize; i++) {
+      long customerId = randomCustomerId();
+      String event =
+          "{\"eventId\":\""
+              + UUID.randomUUID()
+              + "\",\"eventType\":\""
+              + KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name()
+              + "\",\"customerId\":"
+              + customerId
+              + "}";
+      acks.add(
+          producer.send(
+              new ProducerRecord<>(
+                  KafkaTopics.CUSTOMER_EVENTS.getTopicName(), Long.toString(customerId), event)));
+    }
+    for (Future<RecordMetadata> ack : acks) {
+      ack.get(30, TimeUnit.SECONDS);
+    }
+    sentEvents.addAndGet(settings.burstSize);
+    return true;
+  }
+
+  private boolean createCustomers() throws Exception {
+    List<CustomerRequest> customers = new ArrayList<>(settings.bulkSize);
+    for (int i = 0; i < settings.bulkSize; i++) {
+      long n = createdCustomers.incrementAndGet();
+      customers.add(
+          new CustomerRequest(
+              "load",
+              "test" + n,
+              "load" + n + "@example.com",
+              "6" + String.format("%09d", n),
+              "address " + n,
+              CustomerTier.REGULAR));
+    }
+    byte[] body = OBJECT_MAPPER.writeValueAsBytes(customers);
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(baseUrl + "/bulk"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+  }
+
+  private long randomCustomerId() {
+    return 1 + ThreadLocalRandom.current().nextInt(settings.customers);
+  }
+
+  private Map<String, Object> report(Map<Operation, Stats> results, long eventsProcessed) {
+    double seconds = settings.duration.toMillis() / 1000.0;
+    Map<String, Object> operations = new LinkedHashMap<>();
+    long total = 0;
+    long errors = 0;
+    for (Operation operation : Operation.values()) {
+      Stats stats = results.get(operation);
+      if (stats == null) {
+        continue;
+      }
+      operations.put(operation.key, stats.summary(seconds));
+      total += stats.count;
+      errors += stats.errors;
+    }
+
+    Map<String, Object> events = new LinkedHashMap<>();
+    events.put("sent", sentEvents.get());
+    events.put("processed", eventsProcessed);
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("settings", settings.asMap());
+    report.put("operations", operations);
+    report.put("throughputPerSecond", total / seconds);
+    report.put("errorRate", total == 0 ? 0.0 : (double) errors / total);
+    report.put("events", events);
+    return report;
+  }
+
+  private static long processedEvents(BenchmarkEnvironment environment) {
+    return environment
+        .jdbcTemplate()
+        .queryForObject("SELECT count(*) FROM processed_event", Long.class);
+  }
+
+  /** Waits until the listener has processed the events sent during the run, or gives up. */
+  private static long awaitProcessedEvents(
+      BenchmarkEnvironment environment, long before, AtomicLong sent) throws InterruptedException {
+    long deadline = System.nanoTime() + Settings.DRAIN_TIMEOUT.toNanos();
+    long processed = processedEvents(environment) - before;
+    while (processed < sent.get() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(500);
+      processed = processedEvents(environment) - before;
+    }
+    return processed;
+  }
+
+  private static KafkaProducer<String, String> newProducer(String bootstrapServers) {
+    Map<String, Object> config = new LinkedHashMap<>();
+    config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    config.put(ProducerConfig.ACKS_CONFIG, "all");
+    config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+    return new KafkaProducer<>(config, new StringSerializer(), new StringSerializer());
+  }
+
+  private enum Operation {
+    READ("read"),
+    EVENT("event"),
+    CREATE("create");
+
+    private final String key;
+
+    Operation(String key) {
+      this.key = key;
+    }
+
+    private static Operation of(String key) {
+      for (Operation operation : values()) {
+        if (operation.key.equals(key)) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException("Unknown operation in mix: " + key);
+    }
+  }
+
+  /** Latencies and errors of one operation, collected by one client and merged at the end. */
+  private static final class Stats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    private void record(long latencyNanos, boolean success) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (!success) {
+        errors++;
+      }
+    }
+
+    private Stats merge(Stats other) {
+      for (int i = 0; i < other.count; i++) {
+        record(other.latencies[i], true);
+      }
+      errors += other.errors;
+      return this;
+    }
+
+    private Map<String, Object> summary(double seconds) {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      Map<String, Object> summary = new LinkedHashMap<>();
+      summary.put("count", count);
+      summary.put("throughputPerSecond", count / seconds);
+      summary.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+      summary.put("p50Ms", percentileMillis(sorted, 50));
+      summary.put("p95Ms", percentileMillis(sorted, 95));
+      summary.put("p99Ms", percentileMillis(sorted, 99));
+      summary.put("maxMs", count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+      return summary;
+    }
+
+    /** Nearest-rank percentile. */
+    private static double percentileMillis(long[] sorted, int percentile) {
+      if (sorted.length == 0) {
+        return 0.0;
+      }
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+      return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+  }
+
+  /** Settings from {@code name=value} arguments; see the {@code load-test} profile. */
+  private static final class Settings {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(15);
+    private int concurrency = 32;
+    private String mix = "read:90,event:8,create:2";
+    private int customers = 100_000;
+    private int burstSize = 100;
+    private int bulkSize = 50;
+    private String report = "target/load-test-report.json";
+
+    private final List<Operation> operations = new ArrayList<>();
+    private int[] cumulativeWeights;
+
+    private static Settings parse(String[] args) {
+      Settings settings = new Settings();
+      for (String arg : args) {
+        int separator = arg.indexOf('=');
+        if (separator < 0) {
+          throw new IllegalArgumentException("Expected name=value: " + arg);
+        }
+        String value = arg.substring(separator + 1);
+        switch (arg.substring(0, separator)) {
+          case "duration":
+            settings.duration = Duration.parse(value);
+            break;
+          case "warmup":
+            settings.warmup = Duration.parse(value);
+            break;
+          case "concurrency":
+            settings.concurrency = Integer.parseInt(value);
+            break;
+          case "mix":
+            settings.mix = value;
+            break;
+          case "customers":
+            settings.customers = Integer.parseInt(value);
+            break;
+          case "burst-size":
+            settings.burstSize = Integer.parseInt(value);
+            break;
+          case "bulk-size":
+            settings.bulkSize = Integer.parseInt(value);
+            break;
+          case "report":
+            settings.report = value;
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown setting: " + arg);
+        }
+      }
+      settings.parseMix();
+      return settings;
+    }
+
+    /** Parses {@code operation:weight} pairs, e.g. {@code read:90,event:8,create:2}. */
+    private void parseMix() {
+      List<Integer> cumulative = new ArrayList<>();
+      int total = 0;
+      for (String entry : mix.split(",")) {
+        String[] parts = entry.trim().split(":");
+        int weight = Integer.parseInt(parts[1].trim());
+        if (weight > 0) {
+          total += weight;
+          operations.add(Operation.of(parts[0].trim()));
+          cumulative.add(total);
+        }
+      }
+      if (operations.isEmpty()) {
+        throw new IllegalArgumentException("Mix has no operation with a positive weight: " + mix);
+      }
+      cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private Operation pickOperation() {
+      int draw =
+          ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+      for (int i = 0; i < cumulativeWeights.length; i++) {
+        if (draw < cumulativeWeights[i]) {
+          return operations.get(i);
+        }
+      }
+      throw new IllegalStateException("Weight out of range: " + draw);
+    }
+
+    private Map<String, Object> asMap() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("duration", duration.toString());
+      map.put("warmup", warmup.toString());
+      map.put("concurrency", concurrency);
+      map.put("mix", mix);
+      map.put("customers", customers);
+      map.put("burstSize", burstSize);
+      map.put("bulkSize", bulkSize);
+      return map;
+    }
+  }
+}
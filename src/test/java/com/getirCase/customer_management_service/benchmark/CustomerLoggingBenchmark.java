@@ -0,0 +1,86 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Requests per second of {@code GET /api/customers/{id}} with INFO logging on, written to a file
+ * under {@code target}. {@code sync} is the previous setup: every message written on the request
+ * thread and every SQL statement logged. {@code async} is the {@code quiet-logging} profile:
+ * messages handed to the async appender, each INFO message limited to 10 per second and no SQL
+ * logged. The cache is off so every request runs a query.
+ *
+ * <p>In {@code sync} mode SQL goes through the {@code org.hibernate.SQL} logger instead of {@code
+ * show-sql}, which would print it into the benchmark output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(32)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+public class CustomerLoggingBenchmark {
+
+  private static final int CUSTOMERS = 100_000;
+
+  @Param({"sync", "async"})
+  private String logging;
+
+  private BenchmarkEnvironment environment;
+  private HttpClient httpClient;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment =
+        "sync".equals(logging)
+            ? BenchmarkEnvironment.start(
+                "spring.cache.type=none",
+                "logging.level.root=INFO",
+                "logging.level.org.hibernate.SQL=DEBUG",
+                "logging.file.name=target/benchmark-logging-sync.log",
+                "customer.logging.appender=FILE",
+                "customer.logging.rate-limit=0")
+            : BenchmarkEnvironment.start(
+                "spring.cache.type=none",
+                "spring.profiles.active=quiet-logging",
+                "logging.level.root=INFO",
+                "logging.file.name=target/benchmark-logging-async.log",
+                "customer.logging.async.target=FILE");
+    environment.seedCustomers(CUSTOMERS);
+    httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    baseUrl = "http://localhost:" + environment.port() + "/api/customers/";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public int getCustomer() throws IOException, InterruptedException {
+    long customerId = ThreadLocalRandom.current().nextInt(CUSTOMERS) + 1;
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + customerId)).GET().build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+}
@@ -0,0 +1,101 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency distribution (p50, p99) of looking up a customer over HTTP by ID, by email and by phone
+ * number, with the caches enabled and disabled. Reads are spread over {@code hotCustomers}
+ * customers.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class CustomerLookupBenchmark {
+
+  private static final int CUSTOMERS = 100_000;
+
+  @Param({"id", "email", "phone"})
+  private String key;
+
+  @Param({"caffeine", "none"})
+  private String cacheType;
+
+  @Param({"1000"})
+  private int hotCustomers;
+
+  private BenchmarkEnvironment environment;
+  private HttpClient httpClient;
+  private URI[] uris;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment =
+        BenchmarkEnvironment.start(
+            "spring.cache.type=" + cacheType,
+            "customer.cache.keys.maximum-size=" + ("none".equals(cacheType) ? 0 : 100_000));
+    environment.seedCustomers(CUSTOMERS);
+    httpClient = HttpClient.newHttpClient();
+
+    String baseUrl = "http://localhost:" + environment.port() + "/api/customers";
+    uris = new URI[hotCustomers];
+    for (int i = 0; i < hotCustomers; i++) {
+      uris[i] = URI.create(baseUrl + path(i + 1));
+    }
+  }
+
+  /** Request path of customer {@code id}, matching {@link BenchmarkEnvironment#seedCustomers}. */
+  private String path(long id) {
+    switch (key) {
+      case "email":
+        return "/by-email?email="
+            + URLEncoder.encode("customer" + id + "@example.com", StandardCharsets.UTF_8);
+      case "phone":
+        return "/by-phone?phoneNumber=5" + String.format("%09d", id);
+      default:
+        return "/" + id;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public int getCustomer() throws IOException, InterruptedException {
+    URI uri = uris[ThreadLocalRandom.current().nextInt(hotCustomers)];
+    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+    HttpResponse<byte[]> response =
+        httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode());
+    }
+    return response.body().length;
+  }
+}
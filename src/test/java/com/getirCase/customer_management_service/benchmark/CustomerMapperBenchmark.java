@@ -0,0 +1,88 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.mapper.CustomerMapper;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
+import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mappings per second of the generated {@link CustomerMapper}: an entity and a {@link
+ * CustomerView} to a response, and a request to a new entity. Bytes allocated per mapping are in
+ * the GC profiler output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerMapperBenchmark {
+
+  private final CustomerMapper mapper = CustomerMapper.INSTANCE;
+
+  private Customer customer;
+  private CustomerView view;
+  private CustomerRequest request;
+
+  @Setup
+  public void setUp() {
+    customer = new Customer();
+    customer.setId(123456L);
+    customer.setName("ibrahim");
+    customer.setSurname("bayburtlu");
+    customer.setEmail("ibrahimbayburtlu5@gmail.com");
+    customer.setPhoneNumber("5061225291");
+    customer.setAddress("merkez mahallesi kavakli sokak");
+    customer.setTier(CustomerTier.GOLD);
+    customer.setOrderCount(12);
+
+    view =
+        new CustomerView(
+            123456L,
+            "ibrahim",
+            "bayburtlu",
+            "ibrahimbayburtlu5@gmail.com",
+            "5061225291",
+            "merkez mahallesi kavakli sokak",
+            CustomerTier.GOLD,
+            12,
+            3L);
+
+    request =
+        new CustomerRequest(
+            "ibrahim",
+            "bayburtlu",
+            "ibrahimbayburtlu5@gmail.com",
+            "5061225291",
+            "merkez mahallesi kavakli sokak",
+            CustomerTier.REGULAR);
+  }
+
+  @Benchmark
+  public CustomerResponse entityToResponse() {
+    return mapper.toResponse(customer);
+  }
+
+  @Benchmark
+  public CustomerResponse viewToResponse() {
+    return mapper.toResponse(view);
+  }
+
+  @Benchmark
+  public Customer requestToEntity() {
+    return mapper.toEntity(request);
+  }
+}
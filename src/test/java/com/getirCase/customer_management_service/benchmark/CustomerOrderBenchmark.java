@@ -0,0 +1,55 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.service.CustomerService;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end latency of {@link CustomerService#createOrder} against an embedded PostgreSQL
+ * instance: the order count update, the notification and tier change outbox writes, and the
+ * commit. Orders go to {@value #CUSTOMERS} customers in turn, so no row lock is contended.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerOrderBenchmark {
+
+  private static final int CUSTOMERS = 10_000;
+
+  private BenchmarkEnvironment environment;
+  private CustomerService customerService;
+  private long nextCustomerId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start();
+    environment.seedCustomers(CUSTOMERS);
+    customerService = environment.getBean(CustomerService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public CustomerResponse createOrder() {
+    return customerService.createOrder(nextCustomerId++ % CUSTOMERS + 1);
+  }
+}
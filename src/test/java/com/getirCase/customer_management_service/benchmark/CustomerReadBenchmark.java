@@ -0,0 +1,69 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.mapper.CustomerMapper;
+import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency and allocation of one uncached customer read: loading the {@code Customer} entity and
+ * mapping it, against selecting a {@code CustomerView} and mapping that. Each read runs in its own
+ * read-only repository transaction, as on a cache miss of {@code getCustomer}. Run with the
+ * default {@code gc} profiler; {@code gc.alloc.rate.norm} is the bytes allocated per read.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class CustomerReadBenchmark {
+
+  private static final int CUSTOMERS = 100_000;
+
+  private static final CustomerMapper MAPPER = CustomerMapper.INSTANCE;
+
+  @Param({"entity", "view"})
+  private String path;
+
+  private BenchmarkEnvironment environment;
+  private CustomerRepository customerRepository;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start();
+    environment.seedCustomers(CUSTOMERS);
+    customerRepository = environment.getBean(CustomerRepository.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public CustomerResponse readCustomer() {
+    long customerId = 1 + ThreadLocalRandom.current().nextInt(CUSTOMERS);
+    if ("entity".equals(path)) {
+      return MAPPER.toResponse(customerRepository.findById(customerId).orElseThrow());
+    }
+    return MAPPER.toResponse(customerRepository.findViewById(customerId).orElseThrow());
+  }
+}
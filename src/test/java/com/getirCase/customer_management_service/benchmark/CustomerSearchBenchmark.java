@@ -0,0 +1,96 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.model.request.CustomerSearchRequest;
+import com.getirCase.customer_management_service.service.CustomerService;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency distribution of {@code GET /api/customers} for page 1 and deep pages of a
+ * {@value #CUSTOMERS}-row table. With keyset pagination the deep pages should cost the same as the
+ * first one for every sort; {@code orderCount} has only 30 distinct values, so its pages start in
+ * the middle of large runs of equal keys.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class CustomerSearchBenchmark {
+
+  private static final int CUSTOMERS = 2_000_000;
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"id", "createdAt", "orderCount"})
+  private String sort;
+
+  @Param({"1", "1000", "20000"})
+  private int page;
+
+  private BenchmarkEnvironment environment;
+  private HttpClient httpClient;
+  private URI pageUri;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start();
+    environment.seedCustomers(CUSTOMERS);
+    environment.jdbcTemplate().execute("ANALYZE customer");
+    httpClient = HttpClient.newHttpClient();
+
+    String query = "?sort=" + sort + "&limit=" + PAGE_SIZE;
+    String cursor = cursorOfPage(page);
+    if (cursor != null) {
+      query += "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+    }
+    pageUri = URI.create("http://localhost:" + environment.port() + "/api/customers" + query);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public int searchCustomers() throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(pageUri).GET().build();
+    HttpResponse<byte[]> response =
+        httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode());
+    }
+    return response.body().length;
+  }
+
+  /** Walks the listing up to the given page and returns the cursor that fetches it. */
+  private String cursorOfPage(int pageNumber) {
+    CustomerService customerService = environment.getBean(CustomerService.class);
+    CustomerSearchRequest request = new CustomerSearchRequest();
+    request.setSort(sort);
+    request.setLimit(PAGE_SIZE);
+    for (int i = 1; i < pageNumber; i++) {
+      request.setCursor(customerService.searchCustomers(request).getNextCursor());
+    }
+    return request.getCursor();
+  }
+}
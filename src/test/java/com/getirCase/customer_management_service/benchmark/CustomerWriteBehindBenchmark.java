@@ -0,0 +1,91 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.consumer.CustomerEventWriteBehind;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Order events per second when all orders go to {@code hotCustomers} customers, from eight
+ * consumer threads. {@code single} handles each event in its own transaction, as the single
+ * listener does, so the threads queue on the row locks of the hot customers. {@code write-behind}
+ * buffers the events in {@link CustomerEventWriteBehind}, which applies them once per customer and
+ * flush; since {@code add} waits while a full flush is pending, its rate is the flush rate. The
+ * threads call {@code add} directly, so unlike consumers paused by the container after each poll,
+ * only {@code flush-size} bounds what they buffer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class CustomerWriteBehindBenchmark {
+
+  private static final int CUSTOMERS = 10_000;
+
+  private static final Acknowledgment NO_ACK = () -> {};
+
+  @Param({"single", "write-behind"})
+  private String mode;
+
+  @Param({"10"})
+  private int hotCustomers;
+
+  private BenchmarkEnvironment environment;
+  private CustomerEventHandler eventHandler;
+  private CustomerEventWriteBehind writeBehind;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment = BenchmarkEnvironment.start("customer.events.listener.type=" + mode);
+    environment.seedCustomers(CUSTOMERS);
+    eventHandler = environment.getBean(CustomerEventHandler.class);
+    if ("write-behind".equals(mode)) {
+      writeBehind = environment.getBean(CustomerEventWriteBehind.class);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    environment.close();
+  }
+
+  @Benchmark
+  public void orderCreated() throws InterruptedException {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventId(UUID.randomUUID());
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(1L + ThreadLocalRandom.current().nextInt(hotCustomers));
+
+    if (writeBehind == null) {
+      eventHandler.handleCustomerEvent(event);
+    } else {
+      writeBehind.add(
+          new ConsumerRecord<>(KafkaTopics.CUSTOMER_EVENTS.getTopicName(), 0, 0L, null, event),
+          NO_ACK);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test of {@code GET /api/customers/{id}} with {@code concurrency} requests in flight, served
+ * by Tomcat's platform thread pool or by virtual threads. The cache is off so every request holds
+ * a JDBC connection. The score is requests per second; responses other than 200 (e.g. 503 when
+ * the Hikari pool times out) are reported as the secondary result {@code failedRequests}. The
+ * virtual mode needs a Java 21 runtime.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+public class ThreadModeBenchmark {
+
+  private static final int CUSTOMERS = 100_000;
+
+  @Param({"platform", "virtual"})
+  private String threadMode;
+
+  @Param({"1000", "5000"})
+  private int concurrency;
+
+  private BenchmarkEnvironment environment;
+  private HttpClient httpClient;
+  private String baseUrl;
+  private Semaphore inFlight;
+  private final AtomicLong errors = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    environment =
+        "virtual".equals(threadMode)
+            ? BenchmarkEnvironment.start(
+                "spring.cache.type=none", "spring.profiles.active=virtual-threads")
+            : BenchmarkEnvironment.start("spring.cache.type=none");
+    environment.seedCustomers(CUSTOMERS);
+    httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    baseUrl = "http://localhost:" + environment.port() + "/api/customers/";
+    inFlight = new Semaphore(concurrency);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException, InterruptedException {
+    inFlight.acquire(concurrency);
+    environment.close();
+  }
+
+  /** Starts one request as soon as fewer than {@code concurrency} requests are in flight. */
+  @Benchmark
+  public void getCustomer(FailedRequests failed) throws InterruptedException {
+    inFlight.acquire();
+    failed.failedRequests += errors.getAndSet(0);
+
+    long customerId = ThreadLocalRandom.current().nextInt(CUSTOMERS) + 1;
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + customerId)).GET().build();
+    httpClient
+        .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete(
+            (response, failure) -> {
+              if (failure != null || response.statusCode() != 200) {
+                errors.incrementAndGet();
+              }
+              inFlight.release();
+            });
+  }
+
+  /**
+   * Requests that completed without a 200 response. They complete on the HTTP client's threads,
+   * so the benchmark thread collects them on its next request.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class FailedRequests {
+
+    public long failedRequests;
+  }
+}
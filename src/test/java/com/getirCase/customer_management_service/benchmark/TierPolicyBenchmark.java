@@ -0,0 +1,45 @@
+package com.getirCase.customer_management_service.benchmark;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.service.tier.TierPolicy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups per second of {@link TierPolicy#tierFor}, which decides a customer's tier on every order
+ * and tier update. Order counts cycle through 0 to 29 so every tier is hit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TierPolicyBenchmark {
+
+  private TierPolicy policy;
+  private int orderCount;
+
+  @Setup
+  public void setUp() {
+    policy =
+        TierPolicy.of(
+            Map.of(CustomerTier.REGULAR, 0, CustomerTier.GOLD, 10, CustomerTier.PLATINUM, 20));
+  }
+
+  @Benchmark
+  public CustomerTier tierFor() {
+    orderCount = orderCount == 29 ? 0 : orderCount + 1;
+    return policy.tierFor(orderCount);
+  }
+}
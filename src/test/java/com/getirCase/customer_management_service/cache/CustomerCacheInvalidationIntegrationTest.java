@@ -0,0 +1,142 @@
+package com.getirCase.customer_management_service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.getirCase.customer_management_service.CustomerManagementServiceApplication;
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.service.CustomerService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+/**
+ * Runs two application contexts against the same database and an embedded Kafka broker, and
+ * checks that a write on one node evicts the cached customer on the other.
+ */
+class CustomerCacheInvalidationIntegrationTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private static EmbeddedKafkaBroker kafka;
+  private static EmbeddedPostgres postgres;
+  private static ConfigurableApplicationContext nodeA;
+  private static ConfigurableApplicationContext nodeB;
+
+  @BeforeAll
+  static void startNodes() throws Exception {
+    kafka = new EmbeddedKafkaKraftBroker(1, 1, KafkaTopics.CUSTOMER_EVENTS.getTopicName());
+    kafka.afterPropertiesSet();
+    postgres = EmbeddedPostgres.start();
+
+    nodeA = startNode("node-a");
+    nodeB = startNode("node-b");
+  }
+
+  @AfterAll
+  static void stopNodes() throws Exception {
+    nodeB.close();
+    nodeA.close();
+    postgres.close();
+    kafka.destroy();
+  }
+
+  @Test
+  void testUpdateOnOneNodeEvictsCacheOnOtherNode() throws Exception {
+    Long customerId = nodeA.getBean(CustomerRepository.class).save(newCustomer()).getId();
+
+    CustomerService serviceB = nodeB.getBean(CustomerService.class);
+    CustomerCache cacheB = nodeB.getBean(CustomerCache.class);
+    assertEquals("ibrahim", serviceB.getCustomer(customerId).getName());
+    assertTrue(cacheB.get(customerId).isPresent());
+
+    nodeA
+        .getBean(CustomerService.class)
+        .updateCustomer(
+            customerId,
+            new CustomerRequest(
+                "halil",
+                "bayburtlu",
+                "cache-invalidation@gmail.com",
+                "5061225299",
+                "merkez mahallesi kavaklı sokak",
+                CustomerTier.REGULAR));
+
+    awaitTrue(() -> cacheB.get(customerId).isEmpty());
+    assertEquals("halil", serviceB.getCustomer(customerId).getName());
+  }
+
+  @Test
+  void testStaleInvalidationDoesNotRestoreOldData() {
+    CustomerCache cacheB = nodeB.getBean(CustomerCache.class);
+    CustomerResponse response = new CustomerResponse();
+
+    assertTrue(cacheB.invalidate(-1L, 5));
+    assertFalse(cacheB.invalidate(-1L, 4));
+
+    cacheB.put(-1L, response, 4);
+    assertTrue(cacheB.get(-1L).isEmpty());
+
+    cacheB.put(-1L, response, 5);
+    assertTrue(cacheB.get(-1L).isPresent());
+  }
+
+  private static ConfigurableApplicationContext startNode(String instanceId) throws Exception {
+    // Passed as arguments: unlike builder properties, these take precedence over application.yml.
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(CustomerManagementServiceApplication.class)
+            .run(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--customer.cache.invalidation.instance-id=" + instanceId,
+                "--server.port=0");
+
+    // Only the per-node invalidation consumers are guaranteed a partition; the shared group may
+    // assign it to the other node.
+    for (MessageListenerContainer container :
+        context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()) {
+      if (container.getGroupId().startsWith("customer-cache-")) {
+        ContainerTestUtils.waitForAssignment(container, kafka.getPartitionsPerTopic());
+      }
+    }
+    return context;
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Condition not met within " + TIMEOUT);
+      }
+      Thread.sleep(50);
+    }
+  }
+
+  private static Customer newCustomer() {
+    Customer customer = new Customer();
+    customer.setName("ibrahim");
+    customer.setSurname("bayburtlu");
+    customer.setEmail("cache-invalidation@gmail.com");
+    customer.setPhoneNumber("5061225299");
+    customer.setAddress("merkez mahallesi kavaklı sokak");
+    return customer;
+  }
+}
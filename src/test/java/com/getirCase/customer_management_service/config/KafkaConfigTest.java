@@ -0,0 +1,43 @@
+package com.getirCase.customer_management_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.getirCase.customer_management_service.exception.CustomerNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/** Checks which failures send a record through the retry tiers and which go straight to the DLT. */
+class KafkaConfigTest {
+
+  @Test
+  void testIsRetryable_TransientFailuresAreRetried() {
+    assertTrue(KafkaConfig.isRetryable(new CannotAcquireLockException("lock timeout")));
+    assertTrue(KafkaConfig.isRetryable(new CannotCreateTransactionException("database down")));
+    assertTrue(KafkaConfig.isRetryable(new RuntimeException("unexpected")));
+  }
+
+  @Test
+  void testIsRetryable_InvalidEventsAreNotRetried() {
+    assertFalse(KafkaConfig.isRetryable(new IllegalArgumentException("Missing orderCount")));
+    assertFalse(KafkaConfig.isRetryable(new CustomerNotFoundException("Customer not found")));
+    assertFalse(
+        KafkaConfig.isRetryable(
+            new DeserializationException("Malformed event", new byte[0], false, null)));
+  }
+
+  @Test
+  void testIsRetryable_LooksThroughWrappingExceptions() {
+    assertFalse(
+        KafkaConfig.isRetryable(
+            new ListenerExecutionFailedException(
+                "Listener failed", new IllegalArgumentException("Invalid eventType"))));
+    assertTrue(
+        KafkaConfig.isRetryable(
+            new ListenerExecutionFailedException(
+                "Listener failed", new CannotAcquireLockException("lock timeout"))));
+  }
+}
@@ -0,0 +1,69 @@
+package com.getirCase.customer_management_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogRateLimitTurboFilterTest {
+
+  private final AtomicLong now = new AtomicLong(1_000);
+  private final LogRateLimitTurboFilter filter = new LogRateLimitTurboFilter(now::get, 3);
+  private final Logger logger = new LoggerContext().getLogger("customer");
+
+  @BeforeEach
+  void setUp() {
+    logger.setLevel(Level.DEBUG);
+    filter.setMaxPerSecond(2);
+  }
+
+  @Test
+  void testDecide_LimitsEachMessageWithinASecond() {
+    assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer {} found"));
+    assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer {} found"));
+    assertEquals(FilterReply.DENY, decide(Level.INFO, "Customer {} found"));
+    assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Creating new customer"));
+
+    now.addAndGet(1_000);
+
+    assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer {} found"));
+  }
+
+  @Test
+  void testDecide_NeverLimitsWarningsOrLevelChecks() {
+    for (int i = 0; i < 5; i++) {
+      assertEquals(FilterReply.NEUTRAL, decide(Level.WARN, "Customer not found with ID: {}"));
+      assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, null));
+      assertEquals(FilterReply.NEUTRAL, decide(Level.TRACE, "Customer {} found"));
+    }
+
+    assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer {} found"));
+  }
+
+  @Test
+  void testDecide_ZeroLimitTurnsFilterOff() {
+    filter.setMaxPerSecond(0);
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer {} found"));
+    }
+  }
+
+  @Test
+  void testDecide_KeepsAtMostMaxMessages() {
+    for (int i = 0; i < 100; i++) {
+      assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, "Customer " + i + " found"));
+    }
+
+    assertEquals(3, filter.messageCount());
+  }
+
+  private FilterReply decide(Level level, String format) {
+    return filter.decide(null, logger, level, format, null, null);
+  }
+}
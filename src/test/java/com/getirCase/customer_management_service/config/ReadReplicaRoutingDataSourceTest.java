@@ -0,0 +1,173 @@
+package com.getirCase.customer_management_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes connections between two embedded PostgreSQL servers, one standing in for the primary and
+ * one for a replica, and tells them apart by the port each connection reports.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+  private static final String PORT_QUERY = "SELECT current_setting('port')::int";
+
+  private static EmbeddedPostgres primary;
+  private static EmbeddedPostgres replica;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeAll
+  static void startDatabases() throws IOException {
+    primary = EmbeddedPostgres.start();
+    replica = EmbeddedPostgres.start();
+  }
+
+  @AfterAll
+  static void stopDatabases() throws IOException {
+    replica.close();
+    primary.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void testReadOnlyTransactionUsesReplica() throws SQLException {
+    ReadReplicaRoutingDataSource dataSource = routing(ReadReplicaProperties.POSTGRES_LAG_QUERY);
+    dataSource.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(replica.getPort(), portOf(dataSource));
+    assertEquals(0.0, meterRegistry.get("customer.datasource.replica.lag").gauge().value());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get("customer.datasource.connections")
+            .tag("route", "replica-0")
+            .counter()
+            .count());
+  }
+
+  @Test
+  void testReadWriteTransactionUsesPrimary() throws SQLException {
+    ReadReplicaRoutingDataSource dataSource = routing(ReadReplicaProperties.POSTGRES_LAG_QUERY);
+    dataSource.checkReplicas();
+
+    assertEquals(primary.getPort(), portOf(dataSource));
+  }
+
+  @Test
+  void testReplicaIsNotUsedBeforeFirstCheck() throws SQLException {
+    ReadReplicaRoutingDataSource dataSource = routing(ReadReplicaProperties.POSTGRES_LAG_QUERY);
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(primary.getPort(), portOf(dataSource));
+  }
+
+  @Test
+  void testLaggingReplicaFallsBackToPrimary() throws SQLException {
+    ReadReplicaRoutingDataSource dataSource = routing("SELECT 5.0");
+    dataSource.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(primary.getPort(), portOf(dataSource));
+    assertEquals(5.0, meterRegistry.get("customer.datasource.replica.lag").gauge().value());
+    assertEquals(0.0, meterRegistry.get("customer.datasource.replica.available").gauge().value());
+  }
+
+  @Test
+  void testReplicaWithUnknownLagFallsBackToPrimary() throws SQLException {
+    ReadReplicaRoutingDataSource dataSource = routing("SELECT no_such_function()");
+    dataSource.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(primary.getPort(), portOf(dataSource));
+  }
+
+  @Test
+  void testReplicaServesReadsAgainOnceCaughtUp() throws SQLException {
+    JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replica.getPostgresDatabase());
+    replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds float8)");
+    replicaJdbcTemplate.execute("TRUNCATE replica_lag");
+    replicaJdbcTemplate.update("INSERT INTO replica_lag VALUES (5.0)");
+    ReadReplicaRoutingDataSource dataSource = routing("SELECT seconds FROM replica_lag");
+    dataSource.checkReplicas();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertEquals(primary.getPort(), portOf(dataSource));
+
+    replicaJdbcTemplate.update("UPDATE replica_lag SET seconds = 0.5");
+    dataSource.checkReplicas();
+    assertEquals(replica.getPort(), portOf(dataSource));
+  }
+
+  @Test
+  void testTransactionsBehindLazyProxyAreRouted() {
+    ReadReplicaRoutingDataSource routing = routing(ReadReplicaProperties.POSTGRES_LAG_QUERY);
+    routing.checkReplicas();
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+    Integer writePort =
+        transactionTemplate.execute(
+            status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class));
+    transactionTemplate.setReadOnly(true);
+    Integer readPort =
+        transactionTemplate.execute(
+            status -> jdbcTemplate.queryForObject(PORT_QUERY, Integer.class));
+
+    assertEquals(primary.getPort(), writePort);
+    assertEquals(replica.getPort(), readPort);
+  }
+
+  private ReadReplicaRoutingDataSource routing(String lagQuery) {
+    return new ReadReplicaRoutingDataSource(
+        primary.getPostgresDatabase(),
+        Map.of("replica-0", replica.getPostgresDatabase()),
+        Duration.ofSeconds(1),
+        lagQuery,
+        meterRegistry);
+  }
+
+  private static int portOf(DataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(PORT_QUERY)) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+}
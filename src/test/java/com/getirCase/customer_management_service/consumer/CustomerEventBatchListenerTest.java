@@ -0,0 +1,102 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+/**
+ * Checks that each failed record of a batch is forwarded exactly once, and that a record which
+ * cannot be forwarded is reported to the error handler by its index.
+ */
+class CustomerEventBatchListenerTest {
+
+  private final CustomerEventHandler eventHandler = mock(CustomerEventHandler.class);
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer =
+      mock(DeadLetterPublishingRecoverer.class);
+  private final CustomerEventBatchListener listener =
+      new CustomerEventBatchListener(
+          eventHandler, deadLetterRecoverer, new CustomerEventMetrics(new SimpleMeterRegistry()));
+
+  @Test
+  void testConsume_InvalidRecordIsForwardedAndLeftOutOfBatch() {
+    ConsumerRecord<String, CustomerEvent> invalid = record(0, "NOT_AN_EVENT");
+    ConsumerRecord<String, CustomerEvent> valid = record(1, orderCreated());
+
+    listener.consumeCustomerEvents(List.of(invalid, valid));
+
+    verify(eventHandler).handleCustomerEventBatch(List.of(valid.value()));
+    verify(deadLetterRecoverer).accept(eq(invalid), isA(IllegalArgumentException.class));
+    verify(deadLetterRecoverer, never()).accept(eq(valid), any());
+  }
+
+  @Test
+  void testConsume_FailedBatchForwardsEachRecordOnce() {
+    RuntimeException failure = new RuntimeException("database down");
+    doThrow(failure).when(eventHandler).handleCustomerEventBatch(anyList());
+    ConsumerRecord<String, CustomerEvent> invalid = record(0, "NOT_AN_EVENT");
+    ConsumerRecord<String, CustomerEvent> first = record(1, orderCreated());
+    ConsumerRecord<String, CustomerEvent> second = record(2, orderCreated());
+
+    listener.consumeCustomerEvents(List.of(invalid, first, second));
+
+    verify(deadLetterRecoverer, times(1)).accept(eq(invalid), isA(IllegalArgumentException.class));
+    verify(deadLetterRecoverer, times(1)).accept(first, failure);
+    verify(deadLetterRecoverer, times(1)).accept(second, failure);
+  }
+
+  @Test
+  void testConsume_ForwardFailureReportsRecordIndex() {
+    RuntimeException failure = new RuntimeException("database down");
+    doThrow(failure).when(eventHandler).handleCustomerEventBatch(anyList());
+    ConsumerRecord<String, CustomerEvent> first = record(0, orderCreated());
+    ConsumerRecord<String, CustomerEvent> second = record(1, orderCreated());
+    doThrow(new IllegalStateException("broker down"))
+        .when(deadLetterRecoverer)
+        .accept(second, failure);
+
+    BatchListenerFailedException exception =
+        assertThrows(
+            BatchListenerFailedException.class,
+            () -> listener.consumeCustomerEvents(List.of(first, second)));
+
+    assertEquals(1, exception.getIndex());
+    assertSame(failure, exception.getCause());
+    verify(deadLetterRecoverer).accept(first, failure);
+  }
+
+  private static CustomerEvent orderCreated() {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(42L);
+    return event;
+  }
+
+  private static ConsumerRecord<String, CustomerEvent> record(long offset, String eventType) {
+    CustomerEvent event = orderCreated();
+    event.setEventType(eventType);
+    return record(offset, event);
+  }
+
+  private static ConsumerRecord<String, CustomerEvent> record(long offset, CustomerEvent event) {
+    return new ConsumerRecord<>("customer.events", 0, offset, "42", event);
+  }
+}
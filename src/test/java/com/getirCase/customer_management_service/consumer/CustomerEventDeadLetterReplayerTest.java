@@ -0,0 +1,172 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+/**
+ * Replays against a mocked consumer and template: records go to the retry topic without their
+ * dead-letter headers, offsets are committed only after the sends, and only one replay runs at a
+ * time.
+ */
+class CustomerEventDeadLetterReplayerTest {
+
+  private static final String DLT = KafkaTopics.CUSTOMER_EVENTS_DLT.getTopicName();
+  private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+  @SuppressWarnings("unchecked")
+  private final ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+
+  @SuppressWarnings("unchecked")
+  private final Consumer<String, byte[]> consumer = mock(Consumer.class);
+
+  @SuppressWarnings("unchecked")
+  private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+  private final CustomerEventDeadLetterReplayer replayer =
+      new CustomerEventDeadLetterReplayer(consumerFactory, kafkaTemplate, 10, 0);
+
+  @BeforeEach
+  void setUp() {
+    when(consumerFactory.createConsumer()).thenReturn(consumer);
+    when(consumer.partitionsFor(DLT))
+        .thenReturn(List.of(new PartitionInfo(DLT, 0, null, null, null)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReplay_SendsToRetryTopicWithoutDeadLetterHeaders() {
+    ConsumerRecord<String, byte[]> record = deadLetter(7);
+    when(consumer.poll(any(Duration.class))).thenReturn(records(record), ConsumerRecords.empty());
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    OptionalInt replayed = replayer.replay(10);
+
+    assertEquals(OptionalInt.of(1), replayed);
+    ArgumentCaptor<ProducerRecord<String, Object>> sent =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(sent.capture());
+    assertEquals(KafkaTopics.CUSTOMER_EVENTS_RETRY.getTopicName(), sent.getValue().topic());
+    assertEquals("42", sent.getValue().key());
+    assertArrayEquals(record.value(), (byte[]) sent.getValue().value());
+    assertNotNull(sent.getValue().headers().lastHeader(EventHeaders.CONTENT_TYPE));
+    assertNull(sent.getValue().headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+    verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(8)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReplay_CommitsOnlyUpToLimit() {
+    when(consumer.poll(any(Duration.class)))
+        .thenReturn(records(deadLetter(0), deadLetter(1), deadLetter(2)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    OptionalInt replayed = replayer.replay(2);
+
+    assertEquals(OptionalInt.of(2), replayed);
+    verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testReplay_FailedSendDoesNotCommit() {
+    when(consumer.poll(any(Duration.class))).thenReturn(records(deadLetter(0)));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    assertThrows(CompletionException.class, () -> replayer.replay(10));
+
+    verify(consumer, never()).commitSync(anyMap());
+    verify(consumer).close();
+  }
+
+  @Test
+  void testReplay_SecondCallWhileRunningReturnsEmpty() throws Exception {
+    CountDownLatch polling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(consumer.poll(any(Duration.class)))
+        .thenAnswer(
+            invocation -> {
+              polling.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return ConsumerRecords.empty();
+            });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<OptionalInt> running = executor.submit(() -> replayer.replay(10));
+      assertTrue(polling.await(5, TimeUnit.SECONDS));
+
+      assertEquals(OptionalInt.empty(), replayer.replay(10));
+
+      release.countDown();
+      assertEquals(OptionalInt.of(0), running.get(5, TimeUnit.SECONDS));
+      assertEquals(OptionalInt.of(0), replayer.replay(10));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  private static ConsumerRecord<String, byte[]> deadLetter(long offset) {
+    ConsumerRecord<String, byte[]> record =
+        new ConsumerRecord<>(DLT, 0, offset, "42", "{}".getBytes(StandardCharsets.UTF_8));
+    record
+        .headers()
+        .add(
+            EventHeaders.CONTENT_TYPE,
+            EventHeaders.JSON_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+    record
+        .headers()
+        .add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom".getBytes(StandardCharsets.UTF_8));
+    return record;
+  }
+
+  @SafeVarargs
+  private static ConsumerRecords<String, byte[]> records(
+      ConsumerRecord<String, byte[]>... records) {
+    return new ConsumerRecords<>(Map.of(PARTITION, new ArrayList<>(List.of(records))));
+  }
+}
@@ -0,0 +1,60 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.model.event.RawJson;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CustomerEventDecoderTest {
+
+  private final CustomerEventDecoder decoder = new CustomerEventDecoder(new ObjectMapper());
+
+  @Test
+  void testDecode_ReadsFieldsAndKeepsDataRaw() throws Exception {
+    String message =
+        "{\"eventId\":\"3f2b8c1e-6d0a-4c57-9a51-0d2f1e7b9c44\","
+            + "\"eventType\":\"CUSTOMER_TIER_UPDATED_EVENT\",\"customerId\":42,\"orderCount\":19,"
+            + "\"timestamp\":\"2025-02-01T10:15:30\",\"data\":{\"items\":[1,2],\"note\":\"x\"},"
+            + "\"source\":{\"service\":\"order\"}}";
+
+    CustomerEvent event = decoder.decode(message);
+
+    assertEquals(UUID.fromString("3f2b8c1e-6d0a-4c57-9a51-0d2f1e7b9c44"), event.getEventId());
+    assertSame(KafkaEventType.CUSTOMER_TIER_UPDATED_EVENT.name(), event.getEventType());
+    assertEquals(42L, event.getCustomerId());
+    assertEquals(19, event.getOrderCount());
+    assertEquals(LocalDateTime.of(2025, 2, 1, 10, 15, 30), event.getTimestamp());
+    RawJson data = assertInstanceOf(RawJson.class, event.getData());
+    assertEquals("{\"items\":[1,2],\"note\":\"x\"}", data.toString());
+  }
+
+  @Test
+  void testDecode_AcceptsNullsArrayTimestampsAndUnknownTypes() throws Exception {
+    CustomerEvent event =
+        decoder.decode(
+            "{\"eventType\":\"SOMETHING_ELSE\",\"customerId\":\"7\",\"orderCount\":null,"
+                + "\"timestamp\":[2025,2,1,10,15],\"data\":\"plain\"}");
+
+    assertEquals("SOMETHING_ELSE", event.getEventType());
+    assertEquals(7L, event.getCustomerId());
+    assertNull(event.getOrderCount());
+    assertEquals(LocalDateTime.of(2025, 2, 1, 10, 15), event.getTimestamp());
+    assertEquals("\"plain\"", event.getData().toString());
+  }
+
+  @Test
+  void testDecode_RejectsMalformedMessages() {
+    assertThrows(JsonProcessingException.class, () -> decoder.decode("[1,2,3]"));
+    assertThrows(JsonProcessingException.class, () -> decoder.decode("{\"customerId\":"));
+  }
+}
@@ -0,0 +1,116 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Dispatches interleaved events of many customers to the lanes and checks that every customer's
+ * events run in dispatch order, never overlapping, while several lanes work at the same time.
+ */
+class CustomerEventLanesTest {
+
+  private static final int LANES = 8;
+  private static final int CUSTOMERS = 200;
+  private static final int EVENTS_PER_CUSTOMER = 200;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CustomerEventLanes lanes;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    lanes = new CustomerEventLanes(LANES, 64, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    lanes.shutdown();
+  }
+
+  @Test
+  void testDispatch_KeepsPerCustomerOrderUnderConcurrency() throws Exception {
+    Map<Long, List<Integer>> processed = new ConcurrentHashMap<>();
+    Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+    AtomicInteger concurrentLanes = new AtomicInteger();
+    AtomicInteger maxConcurrentLanes = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(CUSTOMERS * EVENTS_PER_CUSTOMER);
+
+    for (long customerId = 1; customerId <= CUSTOMERS; customerId++) {
+      processed.put(customerId, new ArrayList<>());
+      running.put(customerId, new AtomicInteger());
+    }
+
+    for (int sequence = 0; sequence < EVENTS_PER_CUSTOMER; sequence++) {
+      for (long customerId = 1; customerId <= CUSTOMERS; customerId++) {
+        long id = customerId;
+        int seq = sequence;
+        lanes.dispatch(
+            id,
+            () -> {
+              if (running.get(id).incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+              }
+              maxConcurrentLanes.accumulateAndGet(concurrentLanes.incrementAndGet(), Math::max);
+              if (ThreadLocalRandom.current().nextInt(50) == 0) {
+                Thread.yield();
+              }
+              processed.get(id).add(seq);
+              concurrentLanes.decrementAndGet();
+              running.get(id).decrementAndGet();
+              done.countDown();
+            });
+      }
+    }
+
+    assertTrue(done.await(60, TimeUnit.SECONDS), "Lanes did not finish all events");
+    assertEquals(0, overlaps.get());
+    for (Map.Entry<Long, List<Integer>> entry : processed.entrySet()) {
+      List<Integer> sequences = entry.getValue();
+      assertEquals(EVENTS_PER_CUSTOMER, sequences.size());
+      for (int i = 0; i < sequences.size(); i++) {
+        assertEquals(i, sequences.get(i), "Out of order event for customer " + entry.getKey());
+      }
+    }
+    assertTrue(maxConcurrentLanes.get() > 1, "Lanes never ran concurrently");
+  }
+
+  @Test
+  void testDispatch_ExposesQueueDepthAndLagPerLane() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    lanes.dispatch(1L, () -> awaitQuietly(release));
+    lanes.dispatch(1L, () -> {});
+    lanes.dispatch(1L, () -> {});
+
+    double lag =
+        meterRegistry.get("customer.events.lane.lag").gauges().stream()
+            .mapToDouble(Gauge::value)
+            .sum();
+    assertEquals(3, lag);
+    assertEquals(LANES, meterRegistry.get("customer.events.lane.queue.depth").gauges().size());
+
+    release.countDown();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.getirCase.customer_management_service.CustomerManagementServiceApplication;
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * Starts the application once per {@code customer.events.listener.type} against embedded
+ * PostgreSQL and Kafka, and checks that the mode's listener is the one consuming: order events
+ * sent to {@code customer.events} must raise the customer's order count.
+ */
+class CustomerEventListenerModeIntegrationTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private static final List<Class<?>> LISTENERS =
+      List.of(
+          CustomerEventListener.class,
+          CustomerEventBatchListener.class,
+          CustomerEventLaneListener.class,
+          CustomerEventWriteBehindListener.class);
+
+  private static EmbeddedKafkaBroker kafka;
+  private static EmbeddedPostgres postgres;
+
+  @BeforeAll
+  static void startInfrastructure() throws Exception {
+    kafka = new EmbeddedKafkaKraftBroker(1, 1, KafkaTopics.CUSTOMER_EVENTS.getTopicName());
+    kafka.afterPropertiesSet();
+    postgres = EmbeddedPostgres.start();
+  }
+
+  @AfterAll
+  static void stopInfrastructure() throws Exception {
+    postgres.close();
+    kafka.destroy();
+  }
+
+  @Test
+  void testSingleMode() throws Exception {
+    assertConsumes("single", CustomerEventListener.class, ContainerProperties.AckMode.BATCH, 1);
+  }
+
+  @Test
+  void testBatchMode() throws Exception {
+    assertConsumes(
+        "batch", CustomerEventBatchListener.class, ContainerProperties.AckMode.BATCH, 1);
+  }
+
+  @Test
+  void testLanesMode() throws Exception {
+    assertConsumes(
+        "lanes", CustomerEventLaneListener.class, ContainerProperties.AckMode.MANUAL, 1);
+  }
+
+  /**
+   * The container keeps each consumer paused until its last poll is acknowledged, so with a flush
+   * interval far beyond the timeout, the four polls only get through if each flush starts once its
+   * poll is buffered.
+   */
+  @Test
+  void testWriteBehindMode() throws Exception {
+    assertConsumes(
+        "write-behind",
+        CustomerEventWriteBehindListener.class,
+        ContainerProperties.AckMode.MANUAL,
+        20,
+        "--spring.kafka.consumer.max-poll-records=5",
+        "--customer.events.write-behind.flush-interval=600000");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void assertConsumes(
+      String mode,
+      Class<?> listener,
+      ContainerProperties.AckMode ackMode,
+      int orders,
+      String... args)
+      throws Exception {
+    try (ConfigurableApplicationContext context = startNode(mode, args)) {
+      for (Class<?> type : LISTENERS) {
+        assertEquals(
+            type == listener ? 1 : 0, context.getBeansOfType(type).size(), type.getSimpleName());
+      }
+      ConcurrentKafkaListenerContainerFactory<?, ?> factory =
+          context.getBean(
+              "kafkaListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class);
+      assertEquals(ackMode, factory.getContainerProperties().getAckMode());
+
+      CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+      Long customerId = customerRepository.save(newCustomer(mode)).getId();
+      KafkaTemplate<String, CustomerEvent> kafkaTemplate =
+          context.getBean("customerEventKafkaTemplate", KafkaTemplate.class);
+      for (int i = 0; i < orders; i++) {
+        kafkaTemplate
+            .send(
+                KafkaTopics.CUSTOMER_EVENTS.getTopicName(),
+                String.valueOf(customerId),
+                orderCreated(customerId))
+            .get();
+      }
+
+      awaitTrue(
+          () -> customerRepository.findById(customerId).orElseThrow().getOrderCount() == orders);
+    }
+  }
+
+  private static ConfigurableApplicationContext startNode(String mode, String... extraArgs) {
+    // Passed as arguments: unlike builder properties, these take precedence over application.yml.
+    List<String> args =
+        new ArrayList<>(
+            List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--customer.events.listener.type=" + mode,
+                "--server.port=0"));
+    args.addAll(List.of(extraArgs));
+    return new SpringApplicationBuilder(CustomerManagementServiceApplication.class)
+        .run(args.toArray(String[]::new));
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Condition not met within " + TIMEOUT);
+      Thread.sleep(50);
+    }
+  }
+
+  private static CustomerEvent orderCreated(Long customerId) {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventId(UUID.randomUUID());
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(customerId);
+    event.setTimestamp(LocalDateTime.now());
+    return event;
+  }
+
+  private static Customer newCustomer(String mode) {
+    Customer customer = new Customer();
+    customer.setName("ibrahim");
+    customer.setSurname("bayburtlu");
+    customer.setEmail(mode + "-mode@gmail.com");
+    customer.setPhoneNumber(String.format("506%07d", Math.abs(mode.hashCode()) % 10_000_000));
+    customer.setAddress("merkez mahallesi kavaklı sokak");
+    return customer;
+  }
+}
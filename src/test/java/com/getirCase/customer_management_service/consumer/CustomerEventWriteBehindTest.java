@@ -0,0 +1,180 @@
+package com.getirCase.customer_management_service.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.service.handler.CustomerEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.event.ConsumerPausedEvent;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Checks when the write-behind buffer flushes, and that records are acknowledged only once their
+ * flush has been applied or, after a failed flush, forwarded for retry.
+ */
+class CustomerEventWriteBehindTest {
+
+  private static final long TIMEOUT_MS = 5_000;
+
+  private final CustomerEventHandler eventHandler = mock(CustomerEventHandler.class);
+  private final DeadLetterPublishingRecoverer deadLetterRecoverer =
+      mock(DeadLetterPublishingRecoverer.class);
+  private CustomerEventWriteBehind writeBehind;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    writeBehind.shutdown();
+  }
+
+  @Test
+  void testAdd_FlushesOnceFlushSizeIsReached() throws Exception {
+    writeBehind = newWriteBehind(3, 60_000);
+    ConsumerRecord<String, CustomerEvent> first = orderCreated(0);
+    ConsumerRecord<String, CustomerEvent> second = orderCreated(1);
+    ConsumerRecord<String, CustomerEvent> third = orderCreated(2);
+    Acknowledgment firstAck = mock(Acknowledgment.class);
+    Acknowledgment secondAck = mock(Acknowledgment.class);
+    Acknowledgment thirdAck = mock(Acknowledgment.class);
+
+    writeBehind.add(first, firstAck);
+    writeBehind.add(second, secondAck);
+
+    verify(firstAck, after(200).never()).acknowledge();
+    verify(eventHandler, never()).handleCustomerEventBatch(anyList());
+
+    writeBehind.add(third, thirdAck);
+
+    verify(eventHandler, timeout(TIMEOUT_MS))
+        .handleCustomerEventBatch(List.of(first.value(), second.value(), third.value()));
+    verify(firstAck, timeout(TIMEOUT_MS)).acknowledge();
+    verify(secondAck, timeout(TIMEOUT_MS)).acknowledge();
+    verify(thirdAck, timeout(TIMEOUT_MS)).acknowledge();
+  }
+
+  @Test
+  void testAdd_FlushesAfterFlushInterval() throws Exception {
+    writeBehind = newWriteBehind(1_000, 50);
+    ConsumerRecord<String, CustomerEvent> record = orderCreated(0);
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    writeBehind.add(record, acknowledgment);
+
+    verify(eventHandler, timeout(TIMEOUT_MS)).handleCustomerEventBatch(List.of(record.value()));
+    verify(acknowledgment, timeout(TIMEOUT_MS)).acknowledge();
+  }
+
+  @Test
+  void testFlush_ForwardsEveryRecordOfFailedFlush() throws Exception {
+    writeBehind = newWriteBehind(2, 60_000);
+    RuntimeException failure = new RuntimeException("database down");
+    doThrow(failure).when(eventHandler).handleCustomerEventBatch(anyList());
+    ConsumerRecord<String, CustomerEvent> first = orderCreated(0);
+    ConsumerRecord<String, CustomerEvent> second = orderCreated(1);
+    Acknowledgment firstAck = mock(Acknowledgment.class);
+    Acknowledgment secondAck = mock(Acknowledgment.class);
+
+    writeBehind.add(first, firstAck);
+    writeBehind.add(second, secondAck);
+
+    verify(deadLetterRecoverer, timeout(TIMEOUT_MS)).accept(eq(first), eq(failure));
+    verify(deadLetterRecoverer, timeout(TIMEOUT_MS)).accept(eq(second), eq(failure));
+    verify(firstAck, timeout(TIMEOUT_MS)).acknowledge();
+    verify(secondAck, timeout(TIMEOUT_MS)).acknowledge();
+  }
+
+  @Test
+  void testFlush_RecordThatCannotBeForwardedIsNotAcknowledged() throws Exception {
+    writeBehind = newWriteBehind(2, 60_000);
+    RuntimeException failure = new RuntimeException("database down");
+    doThrow(failure).when(eventHandler).handleCustomerEventBatch(anyList());
+    ConsumerRecord<String, CustomerEvent> first = orderCreated(0);
+    ConsumerRecord<String, CustomerEvent> second = orderCreated(1);
+    doThrow(new IllegalStateException("broker down"))
+        .when(deadLetterRecoverer)
+        .accept(eq(second), eq(failure));
+    Acknowledgment firstAck = mock(Acknowledgment.class);
+    Acknowledgment secondAck = mock(Acknowledgment.class);
+
+    writeBehind.add(first, firstAck);
+    writeBehind.add(second, secondAck);
+
+    verify(firstAck, timeout(TIMEOUT_MS)).acknowledge();
+    verify(deadLetterRecoverer, timeout(TIMEOUT_MS)).accept(eq(second), eq(failure));
+    verify(secondAck, after(200).never()).acknowledge();
+  }
+
+  @Test
+  void testFlushAndWait_FlushesBeforeFlushInterval() throws Exception {
+    writeBehind = newWriteBehind(1_000, 60_000);
+    ConsumerRecord<String, CustomerEvent> record = orderCreated(0);
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    writeBehind.add(record, acknowledgment);
+
+    assertTrue(writeBehind.flushAndWait(TIMEOUT_MS));
+
+    verify(eventHandler).handleCustomerEventBatch(List.of(record.value()));
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void testOnConsumerPaused_FlushesBeforeFlushInterval() throws Exception {
+    writeBehind = newWriteBehind(1_000, 60_000);
+    ConsumerRecord<String, CustomerEvent> record = orderCreated(0);
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    writeBehind.add(record, acknowledgment);
+
+    writeBehind.onConsumerPaused(new ConsumerPausedEvent(this, this, List.of()));
+
+    verify(eventHandler, timeout(TIMEOUT_MS)).handleCustomerEventBatch(List.of(record.value()));
+    verify(acknowledgment, timeout(TIMEOUT_MS)).acknowledge();
+  }
+
+  @Test
+  void testShutdown_FlushesBufferedRecords() throws Exception {
+    writeBehind = newWriteBehind(1_000, 60_000);
+    ConsumerRecord<String, CustomerEvent> record = orderCreated(0);
+    Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    writeBehind.add(record, acknowledgment);
+
+    writeBehind.shutdown();
+
+    verify(eventHandler).handleCustomerEventBatch(List.of(record.value()));
+    verify(acknowledgment).acknowledge();
+    verify(deadLetterRecoverer, never()).accept(any(), any());
+  }
+
+  private CustomerEventWriteBehind newWriteBehind(int flushSize, long flushIntervalMs) {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    return new CustomerEventWriteBehind(
+        eventHandler,
+        deadLetterRecoverer,
+        new CustomerEventMetrics(meterRegistry),
+        meterRegistry,
+        flushSize,
+        flushIntervalMs);
+  }
+
+  private static ConsumerRecord<String, CustomerEvent> orderCreated(long offset) {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventId(UUID.randomUUID());
+    event.setEventType(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name());
+    event.setCustomerId(42L);
+    return new ConsumerRecord<>("customer.events", 0, offset, "42", event);
+  }
+}
@@ -1,8 +1,10 @@
 package com.getirCase.customer_management_service.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -10,11 +12,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.getirCase.customer_management_service.constants.ApiEndpoints;
+import com.getirCase.customer_management_service.enums.BulkItemStatus;
 import com.getirCase.customer_management_service.enums.CustomerTier;
 import com.getirCase.customer_management_service.exception.CustomerNotFoundException;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.response.CustomerBulkItemResponse;
+import com.getirCase.customer_management_service.model.response.CustomerBulkResponse;
+import com.getirCase.customer_management_service.model.response.CustomerPageResponse;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.model.response.CustomerSummaryResponse;
 import com.getirCase.customer_management_service.service.CustomerService;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -239,4 +247,97 @@ class CustomerControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  @DisplayName("Bulk Create Customers")
+  void testCreateCustomers() throws Exception {
+    CustomerBulkResponse bulkResponse =
+        CustomerBulkResponse.of(
+            List.of(
+                CustomerBulkItemResponse.builder()
+                    .index(0)
+                    .id(1L)
+                    .status(BulkItemStatus.CREATED)
+                    .customer(response)
+                    .build(),
+                CustomerBulkItemResponse.builder()
+                    .index(1)
+                    .status(BulkItemStatus.DUPLICATE)
+                    .message("Email already exists: ibrahimbayburtlu5@gmail.com")
+                    .build()));
+    when(customerService.createCustomers(any())).thenReturn(bulkResponse);
+
+    mockMvc
+        .perform(
+            post(ApiEndpoints.CUSTOMER_BASE + ApiEndpoints.BULK_CREATE_CUSTOMERS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(OBJECT_MAPPER.writeValueAsString(List.of(request, request))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+        .andExpect(jsonPath("$.items[0].customer.email").value(request.getEmail()))
+        .andExpect(jsonPath("$.items[1].status").value("DUPLICATE"));
+  }
+
+  @Test
+  @DisplayName("Bulk Get Customers Empty Request")
+  void testGetCustomersEmptyRequest() throws Exception {
+    mockMvc
+        .perform(
+            post(ApiEndpoints.CUSTOMER_BASE + ApiEndpoints.BULK_GET_CUSTOMERS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Search Customers")
+  void testSearchCustomers() throws Exception {
+    CustomerPageResponse page =
+        new CustomerPageResponse(
+            List.of(
+                CustomerSummaryResponse.builder()
+                    .id(7L)
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .tier(CustomerTier.GOLD)
+                    .orderCount(12)
+                    .active(true)
+                    .build()),
+            "next");
+    when(customerService.searchCustomers(any())).thenReturn(page);
+
+    mockMvc
+        .perform(
+            get(ApiEndpoints.CUSTOMER_BASE + ApiEndpoints.SEARCH_CUSTOMERS)
+                .param("tier", "GOLD")
+                .param("emailPrefix", "ibrahim")
+                .param("sort", "orderCount")
+                .param("direction", "desc")
+                .param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].id").value(7))
+        .andExpect(jsonPath("$.items[0].tier").value("GOLD"))
+        .andExpect(jsonPath("$.nextCursor").value("next"));
+
+    verify(customerService)
+        .searchCustomers(
+            argThat(
+                search ->
+                    search.getTier() == CustomerTier.GOLD
+                        && "ibrahim".equals(search.getEmailPrefix())
+                        && "orderCount".equals(search.getSort())
+                        && "desc".equals(search.getDirection())
+                        && search.getLimit() == 1));
+  }
+
+  @Test
+  @DisplayName("Search Customers Limit Too Large")
+  void testSearchCustomersLimitTooLarge() throws Exception {
+    mockMvc
+        .perform(
+            get(ApiEndpoints.CUSTOMER_BASE + ApiEndpoints.SEARCH_CUSTOMERS).param("limit", "501"))
+        .andExpect(status().isBadRequest());
+  }
 }
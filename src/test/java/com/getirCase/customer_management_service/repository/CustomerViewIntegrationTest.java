@@ -0,0 +1,82 @@
+package com.getirCase.customer_management_service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/** Reads customers as {@link CustomerView}s from a real PostgreSQL instance. */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+class CustomerViewIntegrationTest {
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Test
+  void testFindViewById_ReadsResponseColumnsWithoutManagedEntity() {
+    Customer customer = persistCustomer("view@example.com", "5061225201");
+    entityManager.clear();
+
+    CustomerView view = customerRepository.findViewById(customer.getId()).orElseThrow();
+
+    assertEquals(
+        new CustomerView(
+            customer.getId(),
+            "ibrahim",
+            "bayburtlu",
+            "view@example.com",
+            "5061225201",
+            "merkez mahallesi",
+            CustomerTier.GOLD,
+            12,
+            customer.getVersion()),
+        view);
+    assertEquals(
+        0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+  }
+
+  @Test
+  void testFindViewsByIdIn_SkipsUnknownIds() {
+    Customer first = persistCustomer("first@example.com", "5061225202");
+    Customer second = persistCustomer("second@example.com", "5061225203");
+
+    List<CustomerView> views =
+        customerRepository.findViewsByIdIn(List.of(first.getId(), second.getId(), -1L));
+
+    assertEquals(2, views.size());
+  }
+
+  @Test
+  void testFindViewByEmailAndPhoneNumber() {
+    Customer customer = persistCustomer("lookup@example.com", "5061225204");
+
+    assertEquals(
+        customer.getId(),
+        customerRepository.findViewByEmail("lookup@example.com").orElseThrow().getId());
+    assertEquals(
+        customer.getId(),
+        customerRepository.findViewByPhoneNumber("5061225204").orElseThrow().getId());
+  }
+
+  private Customer persistCustomer(String email, String phoneNumber) {
+    Customer customer = new Customer();
+    customer.setName("ibrahim");
+    customer.setSurname("bayburtlu");
+    customer.setEmail(email);
+    customer.setPhoneNumber(phoneNumber);
+    customer.setAddress("merkez mahallesi");
+    customer.setTier(CustomerTier.GOLD);
+    customer.setOrderCount(12);
+    return entityManager.persistFlushFind(customer);
+  }
+}
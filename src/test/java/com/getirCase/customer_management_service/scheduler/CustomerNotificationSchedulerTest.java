@@ -0,0 +1,106 @@
+package com.getirCase.customer_management_service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills the notification outbox and checks that draining it, also from several schedulers at once,
+ * sends and marks every pending notification exactly once.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import({CustomerNotificationScheduler.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"customer.notification.batch-size=100"})
+class CustomerNotificationSchedulerTest {
+
+  private static final int CUSTOMERS = 1_000;
+
+  @Autowired private CustomerNotificationScheduler scheduler;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedOutbox() {
+    jdbcTemplate.update(
+        """
+        INSERT INTO customer (name, surname, email, phone_number, tier, order_count)
+        SELECT 'name' || g, 'surname' || g, 'customer' || g || '@example.com',
+               '5' || lpad(g::text, 9, '0'), 'REGULAR', 9
+        FROM generate_series(1, ?) g
+        """,
+        CUSTOMERS);
+    jdbcTemplate.update(
+        "INSERT INTO customer_notification (customer_id, order_count)"
+            + " SELECT id, order_count FROM customer");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM customer_notification");
+    jdbcTemplate.update("DELETE FROM customer");
+  }
+
+  @Test
+  void testSendPendingNotifications_MarksEachNotificationOnce() {
+    assertEquals(CUSTOMERS, scheduler.sendPendingNotifications());
+    assertEquals(0, scheduler.sendPendingNotifications());
+    assertEquals(0, countPending());
+  }
+
+  @Test
+  void testSendPendingNotifications_ConcurrentDrainersDoNotOverlap() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<Integer> first = executor.submit(scheduler::sendPendingNotifications);
+      Future<Integer> second = executor.submit(scheduler::sendPendingNotifications);
+      Future<Integer> third = executor.submit(scheduler::sendPendingNotifications);
+      Future<Integer> fourth = executor.submit(scheduler::sendPendingNotifications);
+
+      int sent = first.get() + second.get() + third.get() + fourth.get();
+
+      assertEquals(CUSTOMERS, sent);
+      assertEquals(0, countPending());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testEnqueue_PendingDuplicateIsDropped() {
+    jdbcTemplate.update("DELETE FROM customer_notification");
+    Long customerId = jdbcTemplate.queryForObject("SELECT min(id) FROM customer", Long.class);
+
+    assertEquals(1, enqueue(customerId));
+    assertEquals(0, enqueue(customerId));
+    scheduler.sendPendingNotifications();
+    assertEquals(1, enqueue(customerId));
+  }
+
+  private int enqueue(Long customerId) {
+    return jdbcTemplate.update(
+        "INSERT INTO customer_notification (customer_id, order_count) VALUES (?, 9)"
+            + " ON CONFLICT DO NOTHING",
+        customerId);
+  }
+
+  private int countPending() {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM customer_notification WHERE processed_at IS NULL", Integer.class);
+  }
+}
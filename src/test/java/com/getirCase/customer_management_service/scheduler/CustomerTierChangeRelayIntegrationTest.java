@@ -0,0 +1,259 @@
+package com.getirCase.customer_management_service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.enums.KafkaTopics;
+import com.getirCase.customer_management_service.model.event.CustomerTierChangedEvent;
+import com.getirCase.customer_management_service.repository.CustomerTierChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Relays the tier change outbox from embedded PostgreSQL to an embedded Kafka broker. Checks that a
+ * batch goes out in outbox order, that a failed or timed out send leaves every row in place, and
+ * that a second relay backs off while the first holds the advisory lock.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerTierChangeRelayIntegrationTest {
+
+  private static final String TOPIC = KafkaTopics.CUSTOMER_TIER_CHANGES.getTopicName();
+  private static final int PARTITIONS = 3;
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private static EmbeddedKafkaBroker kafka;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final List<DefaultKafkaProducerFactory<String, String>> producerFactories =
+      new ArrayList<>();
+
+  @Autowired private CustomerTierChangeRepository tierChangeRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void startKafka() {
+    kafka = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+    kafka.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopKafka() {
+    kafka.destroy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM customer_tier_change");
+    producerFactories.forEach(DefaultKafkaProducerFactory::destroy);
+  }
+
+  @Test
+  void testRelayPending_SendsBatchInOutboxOrder() throws Exception {
+    for (int orderCount = 1; orderCount <= 5; orderCount++) {
+      insertTierChange(1001L, orderCount);
+      insertTierChange(1002L, orderCount);
+    }
+
+    assertEquals(10, newRelay(new KafkaTemplate<>(producerFactory(kafka)), 4).relayPending());
+
+    assertEquals(0, countPending());
+    Map<Long, List<Integer>> orderCounts = new HashMap<>();
+    for (ConsumerRecord<String, String> record : consume(10, Set.of("1001", "1002"))) {
+      CustomerTierChangedEvent event =
+          objectMapper.readValue(record.value(), CustomerTierChangedEvent.class);
+      assertEquals(String.valueOf(event.getCustomerId()), record.key());
+      orderCounts.computeIfAbsent(event.getCustomerId(), id -> new ArrayList<>())
+          .add(event.getOrderCount());
+    }
+    assertEquals(List.of(1, 2, 3, 4, 5), orderCounts.get(1001L));
+    assertEquals(List.of(1, 2, 3, 4, 5), orderCounts.get(1002L));
+  }
+
+  @Test
+  void testRelayPending_FailedSendKeepsRows() {
+    insertTierChange(2001L, 10);
+    insertTierChange(2002L, 20);
+    Map<String, Object> unreachable = producerProps("localhost:1");
+    unreachable.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 500);
+    KafkaTemplate<String, String> kafkaTemplate =
+        new KafkaTemplate<>(track(new DefaultKafkaProducerFactory<>(unreachable)));
+
+    assertThrows(KafkaException.class, () -> newRelay(kafkaTemplate, 10).relayPending());
+
+    assertEquals(2, countPending());
+  }
+
+  @Test
+  void testRelayPending_SendTimeoutKeepsRows() {
+    insertTierChange(3001L, 10);
+    KafkaTemplate<String, String> neverAcknowledged =
+        new KafkaTemplate<String, String>(producerFactory(kafka)) {
+          @Override
+          public CompletableFuture<SendResult<String, String>> send(
+              String topic, String key, String data) {
+            return new CompletableFuture<>();
+          }
+        };
+
+    assertThrows(KafkaException.class, () -> newRelay(neverAcknowledged, 10).relayPending());
+
+    assertEquals(1, countPending());
+  }
+
+  @Test
+  void testRelayPending_SecondRelayBacksOffWhileLockIsHeld() throws Exception {
+    insertTierChange(4001L, 10);
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    KafkaTemplate<String, String> blockingTemplate =
+        new KafkaTemplate<String, String>(producerFactory(kafka)) {
+          @Override
+          public CompletableFuture<SendResult<String, String>> send(
+              String topic, String key, String data) {
+            sending.countDown();
+            try {
+              release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return super.send(topic, key, data);
+          }
+        };
+    CustomerTierChangeRelay first = newRelay(blockingTemplate, 10);
+    CustomerTierChangeRelay second = newRelay(new KafkaTemplate<>(producerFactory(kafka)), 10);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> firstRun = executor.submit(first::relayPending);
+      assertTrue(sending.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+
+      assertEquals(0, second.relayPending());
+      assertEquals(1, countPending());
+
+      release.countDown();
+      assertEquals(1, firstRun.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+      assertEquals(0, countPending());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  private CustomerTierChangeRelay newRelay(KafkaTemplate<String, String> kafkaTemplate, int batch) {
+    return new CustomerTierChangeRelay(
+        tierChangeRepository,
+        kafkaTemplate,
+        objectMapper,
+        transactionManager,
+        new SimpleMeterRegistry(),
+        batch,
+        Duration.ofSeconds(1));
+  }
+
+  private ProducerFactory<String, String> producerFactory(EmbeddedKafkaBroker broker) {
+    return track(new DefaultKafkaProducerFactory<>(producerProps(broker.getBrokersAsString())));
+  }
+
+  private ProducerFactory<String, String> track(
+      DefaultKafkaProducerFactory<String, String> producerFactory) {
+    producerFactories.add(producerFactory);
+    return producerFactory;
+  }
+
+  private static Map<String, Object> producerProps(String bootstrapServers) {
+    Map<String, Object> props = new HashMap<>();
+    props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    return props;
+  }
+
+  /**
+   * Reads the topic from the start until {@code count} records with one of the given keys have
+   * arrived. Records of other tests are skipped.
+   */
+  private static List<ConsumerRecord<String, String>> consume(int count, Set<String> keys) {
+    Map<String, Object> props = new HashMap<>();
+    props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBrokersAsString());
+    props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    List<ConsumerRecord<String, String>> records = new ArrayList<>();
+    try (Consumer<String, String> consumer = new KafkaConsumer<>(props)) {
+      List<TopicPartition> partitions = new ArrayList<>();
+      for (int partition = 0; partition < PARTITIONS; partition++) {
+        partitions.add(new TopicPartition(TOPIC, partition));
+      }
+      consumer.assign(partitions);
+      consumer.seekToBeginning(partitions);
+
+      long deadline = System.nanoTime() + TIMEOUT.toNanos();
+      while (records.size() < count && System.nanoTime() < deadline) {
+        for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+          if (keys.contains(record.key())) {
+            records.add(record);
+          }
+        }
+      }
+    }
+    assertEquals(count, records.size());
+    return records;
+  }
+
+  private void insertTierChange(Long customerId, int orderCount) {
+    jdbcTemplate.update(
+        "INSERT INTO customer_tier_change (customer_id, previous_tier, tier, order_count)"
+            + " VALUES (?, 'REGULAR', 'GOLD', ?)",
+        customerId,
+        orderCount);
+  }
+
+  private int countPending() {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM customer_tier_change", Integer.class);
+  }
+}
@@ -0,0 +1,77 @@
+package com.getirCase.customer_management_service.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getirCase.customer_management_service.constants.EventHeaders;
+import com.getirCase.customer_management_service.enums.KafkaEventType;
+import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class CustomerEventSerializationTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final CustomerEventSerializer serializer = new CustomerEventSerializer(objectMapper);
+  private final CustomerEventDeserializer deserializer =
+      new CustomerEventDeserializer(objectMapper);
+
+  @Test
+  void testBinaryRoundTrip_IsSmallerThanJsonAndKeepsAllFields() throws Exception {
+    CustomerEvent event = new CustomerEvent();
+    event.setEventId(UUID.randomUUID());
+    event.setEventType(KafkaEventType.CUSTOMER_TIER_UPDATED_EVENT.name());
+    event.setCustomerId(123_456L);
+    event.setOrderCount(19);
+    event.setTimestamp(LocalDateTime.of(2025, 2, 1, 10, 15, 30, 123_000_000));
+    event.setData(Map.of("orderId", "ord-1"));
+
+    RecordHeaders headers = new RecordHeaders();
+    byte[] binary = serializer.serialize("customer.events", headers, event);
+    CustomerEvent decoded = deserializer.deserialize("customer.events", headers, binary);
+
+    assertEquals(
+        EventHeaders.BINARY_CONTENT_TYPE,
+        new String(headers.lastHeader(EventHeaders.CONTENT_TYPE).value(), StandardCharsets.UTF_8));
+    assertEquals(event.getEventId(), decoded.getEventId());
+    assertEquals(event.getEventType(), decoded.getEventType());
+    assertEquals(event.getCustomerId(), decoded.getCustomerId());
+    assertEquals(event.getOrderCount(), decoded.getOrderCount());
+    assertEquals(event.getTimestamp(), decoded.getTimestamp());
+    assertEquals("{\"orderId\":\"ord-1\"}", decoded.getData().toString());
+    assertTrue(binary.length < objectMapper.writeValueAsBytes(event).length);
+  }
+
+  @Test
+  void testDeserialize_WithoutContentTypeReadsJson() {
+    byte[] json =
+        "{\"eventType\":\"CUSTOMER_ORDER_CREATED_EVENT\",\"customerId\":5}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    CustomerEvent event = deserializer.deserialize("customer.events", new RecordHeaders(), json);
+
+    assertEquals(KafkaEventType.CUSTOMER_ORDER_CREATED_EVENT.name(), event.getEventType());
+    assertEquals(5L, event.getCustomerId());
+    assertNull(event.getOrderCount());
+  }
+
+  @Test
+  void testDeserialize_RejectsUnknownBinaryVersion() {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add(
+        EventHeaders.CONTENT_TYPE,
+        EventHeaders.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(
+        SerializationException.class,
+        () -> deserializer.deserialize("customer.events", headers, new byte[] {9, 1, 0}));
+  }
+}
@@ -0,0 +1,170 @@
+package com.getirCase.customer_management_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.getirCase.customer_management_service.cache.CustomerCache;
+import com.getirCase.customer_management_service.cache.CustomerKeyCache;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.exception.InvalidRequestException;
+import com.getirCase.customer_management_service.model.request.CustomerSearchRequest;
+import com.getirCase.customer_management_service.model.response.CustomerPageResponse;
+import com.getirCase.customer_management_service.model.response.CustomerSummaryResponse;
+import com.getirCase.customer_management_service.service.impl.CustomerServiceImpl;
+import com.getirCase.customer_management_service.service.tier.TierPolicyProvider;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Pages through customers with many equal sort keys against a real PostgreSQL instance and checks
+ * that every customer is returned exactly once and in order.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import({
+  CustomerServiceImpl.class,
+  CustomerCache.class,
+  CustomerKeyCache.class,
+  TierPolicyProvider.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerSearchIntegrationTest {
+
+  private static final int CUSTOMERS = 500;
+
+  @Autowired private CustomerService customerService;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedCustomers() {
+    jdbcTemplate.update(
+        """
+        INSERT INTO customer
+            (name, surname, email, phone_number, tier, order_count, created_at, is_active)
+        SELECT 'name' || g, CASE WHEN g % 10 = 0 THEN 'Yilmaz' ELSE 'surname' || g END,
+               'customer' || g || '@example.com', '5' || lpad(g::text, 9, '0'),
+               CASE WHEN g % 7 >= 5 THEN 'GOLD' ELSE 'REGULAR' END, g % 7,
+               timestamp '2024-01-01' + (g / 3) * interval '1 minute', g % 4 <> 0
+        FROM generate_series(1, ?) g
+        """,
+        CUSTOMERS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM customer");
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "id,asc",
+    "id,desc",
+    "createdAt,asc",
+    "createdAt,desc",
+    "orderCount,asc",
+    "orderCount,desc"
+  })
+  void testSearchCustomers_PagesReturnEveryCustomerOnceInOrder(String sort, String direction) {
+    CustomerSearchRequest request = new CustomerSearchRequest();
+    request.setSort(sort);
+    request.setDirection(direction);
+    request.setLimit(37);
+
+    List<CustomerSummaryResponse> all = readAllPages(request);
+
+    assertEquals(CUSTOMERS, all.size());
+    assertEquals(CUSTOMERS, all.stream().map(CustomerSummaryResponse::getId).distinct().count());
+    Comparator<CustomerSummaryResponse> order = comparator(sort);
+    if ("desc".equals(direction)) {
+      order = order.reversed();
+    }
+    List<CustomerSummaryResponse> sorted = new ArrayList<>(all);
+    sorted.sort(order);
+    assertEquals(sorted, all);
+  }
+
+  @Test
+  void testSearchCustomers_CombinesFilters() {
+    CustomerSearchRequest request = new CustomerSearchRequest();
+    request.setTier(CustomerTier.GOLD);
+    request.setActive(true);
+    request.setName("yilm");
+    request.setLimit(500);
+
+    List<CustomerSummaryResponse> found = readAllPages(request);
+
+    // g % 10 = 0, g % 7 in (5, 6) and g % 4 <> 0
+    int expected = 0;
+    for (int g = 1; g <= CUSTOMERS; g++) {
+      if (g % 10 == 0 && g % 7 >= 5 && g % 4 != 0) {
+        expected++;
+      }
+    }
+    assertEquals(expected, found.size());
+    assertEquals(expected, new HashSet<>(found).size());
+  }
+
+  @Test
+  void testSearchCustomers_EmailPrefixTreatsWildcardsLiterally() {
+    CustomerSearchRequest request = new CustomerSearchRequest();
+    request.setEmailPrefix("customer1_");
+
+    assertEquals(0, customerService.searchCustomers(request).getItems().size());
+
+    request.setEmailPrefix("customer12");
+    // customer12, customer120-129
+    assertEquals(11, customerService.searchCustomers(request).getItems().size());
+  }
+
+  @Test
+  void testSearchCustomers_CursorOfAnotherSort_IsRejected() {
+    CustomerSearchRequest request = new CustomerSearchRequest();
+    request.setLimit(10);
+    String cursor = customerService.searchCustomers(request).getNextCursor();
+
+    request.setSort("orderCount");
+    request.setCursor(cursor);
+    assertThrows(InvalidRequestException.class, () -> customerService.searchCustomers(request));
+
+    request.setCursor("not a cursor");
+    assertThrows(InvalidRequestException.class, () -> customerService.searchCustomers(request));
+  }
+
+  private List<CustomerSummaryResponse> readAllPages(CustomerSearchRequest request) {
+    List<CustomerSummaryResponse> all = new ArrayList<>();
+    request.setCursor(null);
+    do {
+      CustomerPageResponse page = customerService.searchCustomers(request);
+      all.addAll(page.getItems());
+      request.setCursor(page.getNextCursor());
+    } while (request.getCursor() != null);
+    return all;
+  }
+
+  private static Comparator<CustomerSummaryResponse> comparator(String sort) {
+    Comparator<CustomerSummaryResponse> byId = Comparator.comparing(CustomerSummaryResponse::getId);
+    switch (sort) {
+      case "createdAt":
+        return Comparator.comparing(CustomerSummaryResponse::getCreatedAt).thenComparing(byId);
+      case "orderCount":
+        return Comparator.comparingInt(CustomerSummaryResponse::getOrderCount).thenComparing(byId);
+      default:
+        return byId;
+    }
+  }
+}
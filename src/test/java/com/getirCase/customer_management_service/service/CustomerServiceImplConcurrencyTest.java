@@ -0,0 +1,117 @@
+package com.getirCase.customer_management_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.getirCase.customer_management_service.cache.CustomerCache;
+import com.getirCase.customer_management_service.cache.CustomerKeyCache;
+import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.repository.CustomerNotificationRepository;
+import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.service.impl.CustomerServiceImpl;
+import com.getirCase.customer_management_service.service.tier.TierPolicyProvider;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fires order count increments for one customer from many threads against a real PostgreSQL
+ * instance and checks that none of them is lost.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import({
+  CustomerServiceImpl.class,
+  CustomerCache.class,
+  CustomerKeyCache.class,
+  TierPolicyProvider.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerServiceImplConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int INCREMENTS_PER_THREAD = 50;
+
+  @Autowired private CustomerService customerService;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private CustomerNotificationRepository notificationRepository;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    notificationRepository.deleteAll();
+    customerRepository.deleteAll();
+  }
+
+  @Test
+  void testCreateOrder_ParallelIncrementsAreExact() throws Exception {
+    Long customerId = customerRepository.save(newCustomer("1")).getId();
+
+    runInParallel(() -> customerService.createOrder(customerId));
+
+    Customer customer = customerRepository.findById(customerId).orElseThrow();
+    assertEquals(THREADS * INCREMENTS_PER_THREAD, customer.getOrderCount());
+    assertEquals(CustomerTier.PLATINUM, customer.getTier());
+    // one notification each for passing through 9 and 19 orders
+    assertEquals(2, notificationRepository.count());
+  }
+
+  @Test
+  void testUpdateOrderCount_ParallelIncrementsAreExact() throws Exception {
+    Long customerId = customerRepository.save(newCustomer("2")).getId();
+
+    runInParallel(() -> customerService.updateOrderCount(customerId, 3));
+
+    Customer customer = customerRepository.findById(customerId).orElseThrow();
+    assertEquals(THREADS * INCREMENTS_PER_THREAD * 3, customer.getOrderCount());
+    assertEquals(CustomerTier.PLATINUM, customer.getTier());
+  }
+
+  private void runInParallel(Runnable increment) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                start.await();
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                  increment.run();
+                }
+                return null;
+              }));
+    }
+
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(60, TimeUnit.SECONDS);
+    }
+  }
+
+  private static Customer newCustomer(String suffix) {
+    Customer customer = new Customer();
+    customer.setName("ibrahim");
+    customer.setSurname("bayburtlu");
+    customer.setEmail("concurrency" + suffix + "@gmail.com");
+    customer.setPhoneNumber("506122529" + suffix);
+    customer.setAddress("merkez mahallesi kavaklı sokak");
+    return customer;
+  }
+}
@@ -3,21 +3,44 @@ package com.getirCase.customer_management_service.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.getirCase.customer_management_service.cache.CustomerCache;
+import com.getirCase.customer_management_service.cache.CustomerKeyCache;
 import com.getirCase.customer_management_service.entity.Customer;
+import com.getirCase.customer_management_service.entity.CustomerTierChange;
+import com.getirCase.customer_management_service.enums.BulkItemStatus;
 import com.getirCase.customer_management_service.enums.CustomerTier;
-import com.getirCase.customer_management_service.mapper.CustomerMapper;
+import com.getirCase.customer_management_service.exception.CustomerNotFoundException;
+import com.getirCase.customer_management_service.model.event.CustomerChangedEvent;
+import com.getirCase.customer_management_service.model.event.CustomerKeysChangedEvent;
+import com.getirCase.customer_management_service.model.event.OrderCountDelta;
+import com.getirCase.customer_management_service.model.projection.CustomerView;
 import com.getirCase.customer_management_service.model.request.CustomerRequest;
+import com.getirCase.customer_management_service.model.response.CustomerBulkResponse;
 import com.getirCase.customer_management_service.model.response.CustomerResponse;
+import com.getirCase.customer_management_service.repository.CustomerNotificationRepository;
 import com.getirCase.customer_management_service.repository.CustomerRepository;
+import com.getirCase.customer_management_service.repository.CustomerTierChangeRepository;
 import com.getirCase.customer_management_service.service.impl.CustomerServiceImpl;
+import com.getirCase.customer_management_service.service.tier.TierPolicy;
+import com.getirCase.customer_management_service.service.tier.TierPolicyProvider;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class CustomerServiceImplTest {
@@ -26,12 +49,34 @@ class CustomerServiceImplTest {
     private CustomerRepository customerRepository;
 
     @Mock
-    private CustomerMapper customerMapper;
+    private CustomerNotificationRepository notificationRepository;
+
+    @Mock
+    private CustomerTierChangeRepository tierChangeRepository;
+
+    @Mock
+    private TierPolicyProvider tierPolicyProvider;
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private CustomerKeyCache customerKeyCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private CustomerServiceImpl customerService;
 
     private Customer customer;
+    private CustomerView view;
     private CustomerRequest request;
     private CustomerResponse response;
 
@@ -46,22 +91,93 @@ class CustomerServiceImplTest {
         customer.setAddress("merkez mahallesi kavaklı sokak");
         customer.setTier(CustomerTier.REGULAR);
         customer.setOrderCount(5);
+        view = new CustomerView(1L, "ibrahim", "bayburtlu", "ibrahimbayburtlu5@gmail.com", "5061225291", "merkez mahallesi kavaklı sokak", CustomerTier.REGULAR, 5, 0L);
 
         request = new CustomerRequest("ibrahim", "bayburtlu", "ibrahimbayburtlu5@gmail.com", "5061225291", "merkez mahallesi kavaklı sokak", CustomerTier.REGULAR);
         response = new CustomerResponse("ibrahim", "bayburtlu", "ibrahimbayburtlu5@gmail.com", "5061225291", "merkez mahallesi kavaklı sokak", CustomerTier.REGULAR, 100);
-        lenient().when(customerMapper.toResponse(any(Customer.class))).thenReturn(response);
+        lenient().when(tierPolicyProvider.current()).thenReturn(TierPolicy.of(Map.of(
+                CustomerTier.REGULAR, 0, CustomerTier.GOLD, 10, CustomerTier.PLATINUM, 20)));
     }
 
     @Test
     void testGetCustomer_Success() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.findViewById(1L)).thenReturn(Optional.of(view));
 
         CustomerResponse result = customerService.getCustomer(1L);
 
         assertNotNull(result);
         assertEquals("ibrahim", result.getName());
+        verify(customerCache).put(eq(1L), any(CustomerResponse.class), eq(0L));
+    }
+
+    @Test
+    void testGetCustomer_CacheHit() {
+        when(customerCache.get(1L)).thenReturn(Optional.of(response));
+
+        CustomerResponse result = customerService.getCustomer(1L);
+
+        assertSame(response, result);
+        verify(customerRepository, never()).findViewById(any());
+    }
+
+
+    @Test
+    void testGetCustomerByEmail_KeyCacheMiss_LoadsByEmail() {
+        when(customerKeyCache.getIdByEmail(customer.getEmail())).thenReturn(Optional.empty());
+        when(customerRepository.findViewByEmail(customer.getEmail())).thenReturn(Optional.of(view));
+
+        CustomerResponse result = customerService.getCustomerByEmail(customer.getEmail());
+
+        assertEquals(customer.getEmail(), result.getEmail());
+        verify(customerKeyCache).put(1L, customer.getEmail(), customer.getPhoneNumber());
+        verify(customerCache).put(eq(1L), any(CustomerResponse.class), eq(0L));
     }
 
+    @Test
+    void testGetCustomerByEmail_KeyCacheHit_ServesCachedCustomer() {
+        when(customerKeyCache.getIdByEmail(response.getEmail())).thenReturn(Optional.of(1L));
+        when(customerCache.get(1L)).thenReturn(Optional.of(response));
+
+        CustomerResponse result = customerService.getCustomerByEmail(response.getEmail());
+
+        assertSame(response, result);
+        verify(customerRepository, never()).findViewByEmail(any());
+        verify(customerRepository, never()).findViewById(any());
+    }
+
+    @Test
+    void testGetCustomerByEmail_StaleKey_EvictsAndLoadsByEmail() {
+        String oldEmail = "old@example.com";
+        when(customerKeyCache.getIdByEmail(oldEmail)).thenReturn(Optional.of(1L));
+        when(customerCache.get(1L)).thenReturn(Optional.of(response));
+        when(customerRepository.findViewByEmail(oldEmail)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> customerService.getCustomerByEmail(oldEmail));
+        verify(customerKeyCache).evictEmail(oldEmail, 1L);
+    }
+
+    @Test
+    void testGetCustomerByPhoneNumber_KeyCacheMiss_LoadsByPhoneNumber() {
+        when(customerKeyCache.getIdByPhoneNumber(customer.getPhoneNumber())).thenReturn(Optional.empty());
+        when(customerRepository.findViewByPhoneNumber(customer.getPhoneNumber())).thenReturn(Optional.of(view));
+
+        CustomerResponse result = customerService.getCustomerByPhoneNumber(customer.getPhoneNumber());
+
+        assertEquals(customer.getPhoneNumber(), result.getPhoneNumber());
+        verify(customerKeyCache).put(1L, customer.getEmail(), customer.getPhoneNumber());
+    }
+
+    @Test
+    void testUpdateCustomer_EmailChanged_EvictsOldKeys() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+        request.setEmail("new@example.com");
+
+        customerService.updateCustomer(1L, request);
+
+        verify(eventPublisher).publishEvent(
+                new CustomerKeysChangedEvent(1L, "ibrahimbayburtlu5@gmail.com", "5061225291"));
+    }
 
     @Test
     void testCreateCustomer_Success() {
@@ -80,7 +196,7 @@ class CustomerServiceImplTest {
     void testUpdateCustomer_Success() {
         // Arrange
         when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
 
         // Act
         CustomerResponse result = customerService.updateCustomer(1L, request);
@@ -90,8 +206,30 @@ class CustomerServiceImplTest {
         assertEquals("ibrahim", result.getName());
 
         // Verify
-        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerRepository, times(1)).saveAndFlush(any(Customer.class));
+        verify(eventPublisher).publishEvent(new CustomerChangedEvent(1L, 0L));
+        verify(notificationRepository, never()).enqueue(any(), anyInt());
+    }
+
+    @Test
+    void testCreateOrder_OneOrderBeforeGold_QueuesNotification() {
+        customer.setOrderCount(9);
+        when(customerRepository.incrementOrderCount(1L, 1, 10, 20)).thenReturn(Optional.of(customer));
+
+        customerService.createOrder(1L);
+
+        verify(notificationRepository).enqueue(1L, 9);
+    }
+
+    @Test
+    void testUpdateCustomerTier_SameOrderCount_DoesNotQueueNotification() {
+        customer.setOrderCount(19);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+
+        customerService.updateCustomerTier(1L, 19);
 
+        verify(notificationRepository, never()).enqueue(any(), anyInt());
     }
 
 
@@ -100,36 +238,190 @@ class CustomerServiceImplTest {
     @Test
     void testUpdateCustomerTier_Success() {
         when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
 
         CustomerResponse result = customerService.updateCustomerTier(1L, 15);
 
         assertNotNull(result);
-        verify(customerRepository, times(1)).save(customer);
+        verify(customerRepository, times(1)).saveAndFlush(customer);
     }
 
     @Test
-    void testUpdateOrderCount_Success() {
+    void testUpdateCustomerTier_Promotion_WritesTierChange() {
         when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+
+        customerService.updateCustomerTier(1L, 15);
+
+        ArgumentCaptor<CustomerTierChange> change = ArgumentCaptor.forClass(CustomerTierChange.class);
+        verify(tierChangeRepository).save(change.capture());
+        assertEquals(1L, change.getValue().getCustomerId());
+        assertEquals(CustomerTier.REGULAR, change.getValue().getPreviousTier());
+        assertEquals(CustomerTier.GOLD, change.getValue().getTier());
+        assertEquals(15, change.getValue().getOrderCount());
+    }
+
+    @Test
+    void testUpdateCustomerTier_SameTier_DoesNotWriteTierChange() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.saveAndFlush(any(Customer.class))).thenReturn(customer);
+
+        customerService.updateCustomerTier(1L, 7);
+
+        verify(tierChangeRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateCustomerTier_UnknownCustomer_ThrowsNotFound() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> customerService.updateCustomerTier(1L, 15));
+        verify(customerRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testUpdateOrderCount_Success() {
+        customer.setOrderCount(10);
+        customer.setTier(CustomerTier.GOLD);
+        when(customerRepository.incrementOrderCount(1L, 5, 10, 20)).thenReturn(Optional.of(customer));
 
         CustomerResponse result = customerService.updateOrderCount(1L, 5);
 
         assertNotNull(result);
         assertEquals(10, customer.getOrderCount());
 
-        verify(customerRepository, times(1)).save(customer);
+        verify(customerRepository, times(1)).incrementOrderCount(1L, 5, 10, 20);
+        verify(customerRepository, never()).findById(any());
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void testUpdateOrderCount_NotFound() {
+        when(customerRepository.incrementOrderCount(99L, 5, 10, 20)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> customerService.updateOrderCount(99L, 5));
     }
 
 
     @Test
     void testCreateOrder_Success() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+        when(customerRepository.incrementOrderCount(1L, 1, 10, 20)).thenReturn(Optional.of(customer));
 
         CustomerResponse result = customerService.createOrder(1L);
 
         assertNotNull(result);
-        verify(customerRepository, times(1)).save(customer);
+        verify(customerRepository, times(1)).incrementOrderCount(1L, 1, 10, 20);
+        verify(customerRepository, never()).save(any(Customer.class));
+        verify(eventPublisher).publishEvent(new CustomerChangedEvent(1L, 0L));
+        verify(notificationRepository, never()).enqueue(any(), anyInt());
+    }
+
+    @Test
+    void testApplyOrderCountDeltas_Success() {
+        OrderCountDelta increment = new OrderCountDelta(2L);
+        increment.addOrder();
+        increment.addOrder();
+
+        OrderCountDelta reset = new OrderCountDelta(1L);
+        reset.resetTo(18);
+        reset.addOrder();
+        reset.addOrder();
+
+        when(customerRepository.incrementOrderCount(2L, 2, 10, 20)).thenReturn(Optional.of(customer));
+        when(customerRepository.setOrderCount(1L, 20, "PLATINUM")).thenReturn(Optional.of(customer));
+
+        customerService.applyOrderCountDeltas(List.of(increment, reset));
+
+        verify(customerRepository).incrementOrderCount(2L, 2, 10, 20);
+        verify(customerRepository).setOrderCount(1L, 20, "PLATINUM");
+        verify(customerRepository, never()).findById(any());
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    void testCreateCustomers_DuplicateAndInvalidItemsDoNotFailBatch() {
+        CustomerRequest invalid = new CustomerRequest("", "bayburtlu", "invalid@gmail.com", "5061225292", "adres", CustomerTier.REGULAR);
+        CustomerRequest taken = new CustomerRequest("ali", "veli", "ibrahimbayburtlu5@gmail.com", "5061225293", "adres", CustomerTier.REGULAR);
+        CustomerRequest fresh = new CustomerRequest("ayse", "fatma", "ayse@gmail.com", "5061225294", "adres", CustomerTier.REGULAR);
+        CustomerRequest sameBatch = new CustomerRequest("ayse", "fatma", "ayse@gmail.com", "5061225295", "adres", CustomerTier.REGULAR);
+
+        ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Name is required");
+        doReturn(Set.of()).when(validator).validate(any());
+        doReturn(Set.of(violation)).when(validator).validate(invalid);
+        when(customerRepository.findByEmailInOrPhoneNumberIn(any(), any())).thenReturn(List.of(customer));
+
+        CustomerBulkResponse result = customerService.createCustomers(List.of(invalid, taken, fresh, sameBatch));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertEquals(BulkItemStatus.INVALID, result.getItems().get(0).getStatus());
+        assertEquals(BulkItemStatus.DUPLICATE, result.getItems().get(1).getStatus());
+        assertEquals(BulkItemStatus.CREATED, result.getItems().get(2).getStatus());
+        assertEquals(BulkItemStatus.DUPLICATE, result.getItems().get(3).getStatus());
+        verify(customerRepository, times(1)).saveAllAndFlush(any());
+    }
+
+    @Test
+    void testCreateCustomers_NullItemIsReportedAsInvalid() {
+        CustomerRequest fresh = new CustomerRequest("ayse", "fatma", "ayse@gmail.com", "5061225294", "adres", CustomerTier.REGULAR);
+
+        CustomerBulkResponse result = customerService.createCustomers(Arrays.asList(null, fresh));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(BulkItemStatus.INVALID, result.getItems().get(0).getStatus());
+        assertEquals("Customer data cannot be null", result.getItems().get(0).getMessage());
+        assertEquals(BulkItemStatus.CREATED, result.getItems().get(1).getStatus());
+    }
+
+    @Test
+    void testCreateCustomers_ConcurrentDuplicateFailsOnlyThatItem() {
+        CustomerRequest raced = new CustomerRequest("ali", "veli", "ibrahimbayburtlu5@gmail.com", "5061225293", "adres", CustomerTier.REGULAR);
+        CustomerRequest fresh = new CustomerRequest("ayse", "fatma", "ayse@gmail.com", "5061225294", "adres", CustomerTier.REGULAR);
+
+        when(customerRepository.findByEmailInOrPhoneNumberIn(any(), any()))
+                .thenReturn(List.of(), List.of(customer), List.of());
+        doThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+                .doReturn(List.of())
+                .when(customerRepository).saveAllAndFlush(any());
+
+        CustomerBulkResponse result = customerService.createCustomers(List.of(raced, fresh));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(BulkItemStatus.DUPLICATE, result.getItems().get(0).getStatus());
+        assertEquals(BulkItemStatus.CREATED, result.getItems().get(1).getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void testCreateCustomers_ConflictOnRetryIsReportedAsDuplicate() {
+        CustomerRequest fresh = new CustomerRequest("ayse", "fatma", "ayse@gmail.com", "5061225294", "adres", CustomerTier.REGULAR);
+
+        doThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+                .when(customerRepository).saveAllAndFlush(any());
+
+        CustomerBulkResponse result = customerService.createCustomers(List.of(fresh));
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(BulkItemStatus.DUPLICATE, result.getItems().get(0).getStatus());
+        verify(customerRepository, times(2)).saveAllAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testGetCustomers_LoadsCacheMissesWithOneQuery() {
+        when(customerCache.get(1L)).thenReturn(Optional.of(response));
+        when(customerCache.get(2L)).thenReturn(Optional.empty());
+        when(customerCache.get(3L)).thenReturn(Optional.empty());
+        CustomerView found = new CustomerView(2L, "ibrahim", "bayburtlu", "ibrahimbayburtlu5@gmail.com", "5061225291", "merkez mahallesi kavaklı sokak", CustomerTier.REGULAR, 5, 0L);
+        when(customerRepository.findViewsByIdIn(Set.of(2L, 3L))).thenReturn(List.of(found));
+
+        CustomerBulkResponse result = customerService.getCustomers(List.of(1L, 2L, 3L));
+
+        assertEquals(BulkItemStatus.FOUND, result.getItems().get(0).getStatus());
+        assertEquals(BulkItemStatus.FOUND, result.getItems().get(1).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, result.getItems().get(2).getStatus());
+        verify(customerRepository, times(1)).findViewsByIdIn(any());
+        verify(customerCache).put(eq(2L), any(CustomerResponse.class), eq(0L));
     }
 }
@@ -1,13 +1,27 @@
 package com.getirCase.customer_management_service.service.handler;
 
 import com.getirCase.customer_management_service.model.event.CustomerEvent;
+import com.getirCase.customer_management_service.model.event.OrderCountDelta;
 import com.getirCase.customer_management_service.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class CustomerEventHandlerTest {
@@ -15,6 +29,9 @@ class CustomerEventHandlerTest {
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private CustomerEventDeduplicator deduplicator;
+
     @InjectMocks
     private CustomerEventHandler customerEventHandler;
 
@@ -44,4 +61,100 @@ class CustomerEventHandlerTest {
 
         verify(customerService, times(1)).updateCustomerTier(1L, 5);
     }
+
+    @Test
+    void testHandleCustomerTierUpdated_MissingOrderCountIsRejected() {
+        CustomerEvent event = event("CUSTOMER_TIER_UPDATED_EVENT", 1L, null);
+
+        assertThrows(IllegalArgumentException.class, () -> customerEventHandler.handleCustomerEvent(event));
+        verify(customerService, never()).updateCustomerTier(any(), anyInt());
+    }
+
+    @Test
+    void testHandleCustomerEvent_SkipsAlreadyProcessedEvent() {
+        CustomerEvent event = event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null);
+        event.setEventId(UUID.randomUUID());
+        when(deduplicator.claim(event.getEventId())).thenReturn(false);
+
+        customerEventHandler.handleCustomerEvent(event);
+
+        verify(customerService, never()).createOrder(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHandleCustomerEventBatch_SkipsAlreadyProcessedAndRepeatedEvents() {
+        CustomerEvent processed = event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null);
+        processed.setEventId(UUID.randomUUID());
+        CustomerEvent fresh = event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null);
+        fresh.setEventId(UUID.randomUUID());
+        CustomerEvent repeated = event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null);
+        repeated.setEventId(fresh.getEventId());
+        CustomerEvent withoutId = event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null);
+        when(deduplicator.claimAll(List.of(processed.getEventId(), fresh.getEventId(), fresh.getEventId())))
+                .thenReturn(new HashSet<>(Set.of(fresh.getEventId())));
+
+        customerEventHandler.handleCustomerEventBatch(List.of(processed, fresh, repeated, withoutId));
+
+        ArgumentCaptor<Collection<OrderCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(customerService).applyOrderCountDeltas(captor.capture());
+        OrderCountDelta delta = captor.getValue().iterator().next();
+        assertEquals(2, delta.getIncrement());
+    }
+
+    @Test
+    void testHandleCustomerEvent_InvalidTypeIsNotRetryable() {
+        CustomerEvent missingType = event(null, 1L, null);
+        CustomerEvent unknownType = event("CUSTOMER_DELETED_EVENT", 1L, null);
+
+        assertThrows(IllegalArgumentException.class, () -> customerEventHandler.handleCustomerEvent(missingType));
+        assertThrows(IllegalArgumentException.class, () -> customerEventHandler.handleCustomerEvent(unknownType));
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHandleCustomerEventBatch_MergesEventsPerCustomer() {
+        List<CustomerEvent> events = List.of(
+                event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null),
+                event("CUSTOMER_ORDER_CREATED_EVENT", 2L, null),
+                event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null),
+                event("CUSTOMER_ORDER_CREATED_EVENT", 2L, null),
+                event("CUSTOMER_TIER_UPDATED_EVENT", 2L, 15),
+                event("CUSTOMER_ORDER_CREATED_EVENT", 2L, null),
+                event("CUSTOMER_ORDER_CREATED_EVENT", 1L, null));
+
+        customerEventHandler.handleCustomerEventBatch(events);
+
+        ArgumentCaptor<Collection<OrderCountDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(customerService, times(1)).applyOrderCountDeltas(captor.capture());
+        verify(customerService, never()).createOrder(any());
+
+        List<OrderCountDelta> deltas = new ArrayList<>(captor.getValue());
+        assertEquals(2, deltas.size());
+
+        assertEquals(1L, deltas.get(0).getCustomerId());
+        assertNull(deltas.get(0).getOrderCount());
+        assertEquals(3, deltas.get(0).getIncrement());
+
+        assertEquals(2L, deltas.get(1).getCustomerId());
+        assertEquals(15, deltas.get(1).getOrderCount());
+        assertEquals(1, deltas.get(1).getIncrement());
+    }
+
+    @Test
+    void testHandleCustomerEventBatch_EmptyBatch() {
+        customerEventHandler.handleCustomerEventBatch(List.of());
+
+        verifyNoInteractions(customerService);
+    }
+
+    private static CustomerEvent event(String eventType, Long customerId, Integer orderCount) {
+        CustomerEvent event = new CustomerEvent();
+        event.setEventType(eventType);
+        event.setCustomerId(customerId);
+        event.setOrderCount(orderCount);
+        event.setTimestamp(LocalDateTime.now());
+        return event;
+    }
 }
@@ -0,0 +1,91 @@
+package com.getirCase.customer_management_service.service.tier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import com.getirCase.customer_management_service.enums.RetieringState;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Re-tiers customers stored with the default thresholds under a new policy and checks the tiers
+ * and the outbox rows it leaves behind.
+ */
+@DataJpaTest
+@AutoConfigureEmbeddedDatabase
+@Import({CustomerRetieringJob.class, TierPolicyProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"customer.tiers.retiering.chunk-size=70"})
+class CustomerRetieringJobTest {
+
+  private static final int CUSTOMERS = 1_000;
+
+  private static final TierPolicy NEW_POLICY =
+      TierPolicy.of(
+          Map.of(CustomerTier.REGULAR, 0, CustomerTier.GOLD, 5, CustomerTier.PLATINUM, 25));
+
+  @Autowired private CustomerRetieringJob retieringJob;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void seedCustomers() {
+    jdbcTemplate.update(
+        """
+        INSERT INTO customer (name, surname, email, phone_number, tier, order_count)
+        SELECT 'name' || g, 'surname' || g, 'customer' || g || '@example.com',
+               '5' || lpad(g::text, 9, '0'),
+               CASE WHEN g % 30 >= 20 THEN 'PLATINUM' WHEN g % 30 >= 10 THEN 'GOLD'
+                    ELSE 'REGULAR' END,
+               g % 30
+        FROM generate_series(1, ?) g
+        """,
+        CUSTOMERS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM customer_tier_change");
+    jdbcTemplate.update("DELETE FROM customer");
+  }
+
+  @Test
+  void testRun_AppliesPolicyToEveryCustomer() {
+    retieringJob.run(NEW_POLICY);
+
+    assertEquals(RetieringState.COMPLETED, retieringJob.status().getState());
+    assertEquals(
+        0,
+        jdbcTemplate.queryForObject(
+            """
+            SELECT count(*) FROM customer
+            WHERE tier <> CASE WHEN order_count >= 25 THEN 'PLATINUM'
+                               WHEN order_count >= 5 THEN 'GOLD' ELSE 'REGULAR' END
+            """,
+            Integer.class));
+  }
+
+  @Test
+  void testRun_WritesOneTierChangePerUpdatedCustomer() {
+    retieringJob.run(NEW_POLICY);
+
+    // order counts 5-9 and 25-29 move up a tier and 20-24 move down
+    assertEquals(500, retieringJob.status().getUpdatedRows());
+    assertEquals(
+        500L,
+        jdbcTemplate.queryForObject("SELECT count(*) FROM customer_tier_change", Long.class));
+
+    retieringJob.run(NEW_POLICY);
+    assertEquals(0, retieringJob.status().getUpdatedRows());
+  }
+}
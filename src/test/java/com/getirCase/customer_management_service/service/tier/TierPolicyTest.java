@@ -0,0 +1,57 @@
+package com.getirCase.customer_management_service.service.tier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.getirCase.customer_management_service.enums.CustomerTier;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TierPolicyTest {
+
+  private final TierPolicy policy =
+      TierPolicy.of(
+          Map.of(CustomerTier.REGULAR, 0, CustomerTier.GOLD, 10, CustomerTier.PLATINUM, 20));
+
+  @Test
+  void testTierFor_UsesHighestReachedThreshold() {
+    assertEquals(CustomerTier.REGULAR, policy.tierFor(0));
+    assertEquals(CustomerTier.REGULAR, policy.tierFor(9));
+    assertEquals(CustomerTier.GOLD, policy.tierFor(10));
+    assertEquals(CustomerTier.GOLD, policy.tierFor(19));
+    assertEquals(CustomerTier.PLATINUM, policy.tierFor(20));
+    assertEquals(CustomerTier.PLATINUM, policy.tierFor(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testTierFor_NegativeOrderCount_IsRegular() {
+    assertEquals(CustomerTier.REGULAR, policy.tierFor(-1));
+  }
+
+  @Test
+  void testIsNotificationOrderCount_OneOrderBeforeEachTier() {
+    assertTrue(policy.isNotificationOrderCount(9));
+    assertTrue(policy.isNotificationOrderCount(19));
+    assertFalse(policy.isNotificationOrderCount(10));
+    assertFalse(policy.isNotificationOrderCount(-1));
+  }
+
+  @Test
+  void testOf_RejectsInvalidThresholds() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> TierPolicy.of(Map.of(CustomerTier.REGULAR, 0, CustomerTier.GOLD, 10)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TierPolicy.of(
+                Map.of(CustomerTier.REGULAR, 1, CustomerTier.GOLD, 10, CustomerTier.PLATINUM, 20)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            TierPolicy.of(
+                Map.of(CustomerTier.REGULAR, 0, CustomerTier.GOLD, 20, CustomerTier.PLATINUM, 20)));
+  }
+}